@@ -15,6 +15,8 @@
  */
 package com.github.wautsns.simplevalidator;
 
+import com.github.wautsns.simplevalidator.constraint.AConstraint;
+import com.github.wautsns.simplevalidator.constraint.any.indepth.InDepthTraversal;
 import com.github.wautsns.simplevalidator.exception.analysis.ConstraintAnalysisException;
 import com.github.wautsns.simplevalidator.kernal.constraint.ConstraintMetadata;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactory;
@@ -22,8 +24,11 @@ import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.text
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.text.TextLikeUtility;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.time.CriterionFactoryForTimeLike;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.time.TimeLikeUtility;
+import com.github.wautsns.simplevalidator.kernal.criterion.util.ValidationContext;
+import com.github.wautsns.simplevalidator.kernal.criterion.wrapper.ParallelTraversal;
 import com.github.wautsns.simplevalidator.kernal.extractor.type.basic.AnnotatedTypeExtractor;
 import com.github.wautsns.simplevalidator.kernal.extractor.value.basic.ValueExtractor;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.SharedValueExtractors;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailureFormatter;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedParameter;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedTypeContainer;
@@ -34,8 +39,10 @@ import lombok.experimental.UtilityClass;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
+import java.time.Clock;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -65,6 +72,18 @@ public class SimpleValidatorConfiguration {
             ConstraintMetadata.getInstance(constraintType).getValueExtractors().add(valueExtractor);
         }
 
+        /**
+         * Add value extractor shared by all constraints.
+         *
+         * <p>eg. I want all numeric constraints to validate value of type AtomicInteger
+         *
+         * @param valueExtractor value extractor
+         * @see SharedValueExtractors
+         */
+        public static void addSharedValueExtractor(ValueExtractor valueExtractor) {
+            SharedValueExtractors.add(valueExtractor);
+        }
+
         /**
          * Add criterion factory.
          *
@@ -86,6 +105,22 @@ public class SimpleValidatorConfiguration {
             metadata.getCriterionFactories().add(Objects.requireNonNull(criterionFactory));
         }
 
+        /**
+         * Set whether the constraint is a precheck.
+         *
+         * <p>Prechecks on a container will be evaluated before all other constraints of the container and its
+         * elements. {@code VNotNull}, {@code VNotEmpty} and {@code VSize} are prechecks by default.
+         *
+         * <p>It only affects criteria initialized after the setting.
+         *
+         * @param constraintType constraint type
+         * @param precheck {@code true} if the constraint is a precheck, otherwise {@code false}
+         * @see AConstraint#precheck()
+         */
+        public static void setPrecheck(Class<? extends Annotation> constraintType, boolean precheck) {
+            ConstraintMetadata.getInstance(constraintType).setPrecheck(precheck);
+        }
+
     }
 
     /** Configuration for the constrained node. */
@@ -113,6 +148,95 @@ public class SimpleValidatorConfiguration {
 
     }
 
+    /** Configuration for the criterion wrapper. */
+    @UtilityClass
+    public static class ForCriterionWrapper {
+
+        /**
+         * Set min size of container(array, collection and map) whose elements are validated in parallel.
+         *
+         * @param threshold min size of container, {@link Integer#MAX_VALUE}(default) means never
+         * @see ParallelTraversal#setThreshold(int)
+         */
+        public static void setParallelThreshold(int threshold) {
+            ParallelTraversal.setThreshold(threshold);
+        }
+
+        /**
+         * Set pool in which the elements of container are validated in parallel.
+         *
+         * @param pool pool, default is {@link ForkJoinPool#commonPool()}
+         * @see ParallelTraversal#setPool(ForkJoinPool)
+         */
+        public static void setParallelPool(ForkJoinPool pool) {
+            ParallelTraversal.setPool(pool);
+        }
+
+    }
+
+    /** Configuration for the in-depth validation. */
+    @UtilityClass
+    public static class ForInDepthValidation {
+
+        /**
+         * Set max depth of nested objects.
+         *
+         * @param maxDepth max depth of nested objects, {@link Integer#MAX_VALUE}(default) means unlimited
+         * @see InDepthTraversal#setMaxDepth(int)
+         */
+        public static void setMaxDepth(int maxDepth) {
+            InDepthTraversal.setMaxDepth(maxDepth);
+        }
+
+        /**
+         * Set max count of nested objects under an outermost in-depth node.
+         *
+         * @param maxCount max count of nested objects, {@link Integer#MAX_VALUE}(default) means unlimited
+         * @see InDepthTraversal#setMaxCount(int)
+         */
+        public static void setMaxCount(int maxCount) {
+            InDepthTraversal.setMaxCount(maxCount);
+        }
+
+        /**
+         * Set depth of every stack segment.
+         *
+         * @param segmentDepth depth of every stack segment, {@code 0}(default) means no segment
+         * @param segmentStackSize stack size(in bytes) of every stack segment, {@code 0} means the default of the
+         *         JVM
+         * @see InDepthTraversal#setSegmentDepth(int)
+         * @see InDepthTraversal#setSegmentStackSize(long)
+         */
+        public static void setSegment(int segmentDepth, long segmentStackSize) {
+            InDepthTraversal.setSegmentDepth(segmentDepth);
+            InDepthTraversal.setSegmentStackSize(segmentStackSize);
+        }
+
+        /**
+         * Set max count of threads running stack segments.
+         *
+         * @param maxSegmentThreads max count of threads running stack segments, default is {@code 64}
+         * @see InDepthTraversal#setMaxSegmentThreads(int)
+         */
+        public static void setMaxSegmentThreads(int maxSegmentThreads) {
+            InDepthTraversal.setMaxSegmentThreads(maxSegmentThreads);
+        }
+
+        /**
+         * Set whether results of nested objects are memoized per execution.
+         *
+         * <p>If enabled, an object shared by several paths will be validated only once per execution, but containers
+         * will not be validated in parallel.
+         *
+         * @param memoEnabled whether memo is enabled, default is {@code false}
+         * @see ValidationContext#setMemoEnabled(boolean)
+         */
+        public static void setMemoEnabled(boolean memoEnabled) {
+            ValidationContext.setMemoEnabled(memoEnabled);
+        }
+
+    }
+
     /** Configuration for the type-like utility. */
     @UtilityClass
     public static class ForTypeLikeUtility {
@@ -135,6 +259,26 @@ public class SimpleValidatorConfiguration {
             CriterionFactoryForTimeLike.UTILITIES.add(timeLikeUtility);
         }
 
+        /**
+         * Set clock of the current time for time-like values.
+         *
+         * @param clock clock of the current time
+         * @see TimeLikeUtility#setClock(Clock)
+         */
+        public static void setClock(Clock clock) {
+            TimeLikeUtility.setClock(clock);
+        }
+
+        /**
+         * Set resolution(milliseconds) of the cached reference time for time-like values.
+         *
+         * @param resolution resolution(milliseconds)
+         * @see TimeLikeUtility#setResolution(long)
+         */
+        public static void setClockResolution(long resolution) {
+            TimeLikeUtility.setResolution(resolution);
+        }
+
     }
 
     /** Configuration for value. */
@@ -18,8 +18,12 @@ package com.github.wautsns.simplevalidator;
 import com.github.wautsns.simplevalidator.exception.ValidationException;
 import com.github.wautsns.simplevalidator.kernal.criterion.util.CriterionUtils;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import com.github.wautsns.simplevalidator.kernal.node.ConstrainedClass;
+import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
 import lombok.experimental.UtilityClass;
 
+import java.util.function.Consumer;
+
 /**
  * Validator.
  *
@@ -101,4 +105,37 @@ public class Validator {
         throw new ValidationException(failure);
     }
 
+    /**
+     * Decorate the source of the specified node so that its elements are validated lazily, failures will be thrown.
+     *
+     * @param type type declaring the node
+     * @param nodeName node name, eg. {@code "#rows"}(field) or {@code "#rows()"}(getter)
+     * @param source source, eg. {@code Stream}, {@code Iterator}, {@code Spliterator}
+     * @param <S> type of source
+     * @return decorated source, an {@link ValidationException} will be thrown when a failed element is consumed
+     * @see #validateLazily(Class, String, Object, Consumer)
+     */
+    public static <S> S validateLazily(Class<?> type, String nodeName, S source) {
+        return validateLazily(type, nodeName, source, failure -> { throw new ValidationException(failure); });
+    }
+
+    /**
+     * Decorate the source of the specified node so that its elements are validated lazily.
+     *
+     * <p>Elements are tested when they are consumed, the failure(with the index as indicator) will be passed to the
+     * failure handler. If the failure handler returns normally, the failed element will still be passed on.
+     *
+     * @param type type declaring the node
+     * @param nodeName node name, eg. {@code "#rows"}(field) or {@code "#rows()"}(getter)
+     * @param source source, eg. {@code Stream}, {@code Iterator}, {@code Spliterator}
+     * @param failureHandler failure handler
+     * @param <S> type of source
+     * @return decorated source, or the source itself if no element is validated lazily
+     */
+    public static <S> S validateLazily(
+            Class<?> type, String nodeName, S source, Consumer<ValidationFailure> failureHandler) {
+        ConstrainedNode node = ConstrainedClass.getInstance(type).requireChild(nodeName);
+        return CriterionUtils.decorateLazily(CriterionUtils.getForNode(node), source, failureHandler);
+    }
+
 }
@@ -47,4 +47,16 @@ public @interface AConstraint {
      */
     int order() default 0;
 
+    /**
+     * Whether the constraint is a precheck.
+     *
+     * <p>A precheck is a cheap(usually O(1)) check of the container itself, e.g. the size of a collection. Prechecks
+     * on a container will be evaluated before all other constraints of the container and its elements, so that an
+     * illegal container(e.g. an oversized payload) can be rejected without traversing its elements.
+     *
+     * @return {@code true} if the constraint is a precheck, otherwise {@code false}
+     * @see com.github.wautsns.simplevalidator.SimpleValidatorConfiguration.ForConstraint#setPrecheck(Class, boolean)
+     */
+    boolean precheck() default false;
+
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.constraint.algorithm.luhn;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigInteger;
+
+/**
+ * Luhn utils.
+ *
+ * <p>The number should have 8 to 19 digits. Digits are doubled from the rightmost one(the check digit is not doubled).
+ *
+ * @author wautsns
+ * @since Mar 19, 2020
+ */
+@UtilityClass
+public class LuhnUtils {
+
+    /** Min length of the number. */
+    public static final int MIN_LENGTH = 8;
+    /** Max length of the number. */
+    public static final int MAX_LENGTH = 19;
+
+    /**
+     * Return whether the number passes the luhn check.
+     *
+     * @param number number
+     * @return {@code true} if the number passes the luhn check, otherwise {@code false}
+     */
+    public static boolean isValid(CharSequence number) {
+        int length = number.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) { return false; }
+        int sum = 0;
+        int illegal = 0;
+        for (int i = length - 1, doubled = 0; i >= 0; i--, doubled ^= DOUBLED) {
+            int digit = number.charAt(i) - '0';
+            illegal |= digit | (9 - digit);
+            sum += DIGIT_SUM_TABLE[doubled | (digit & 0xF)];
+        }
+        return (illegal >= 0) && (sum % 10 == 0);
+    }
+
+    /**
+     * Return whether the number passes the luhn check.
+     *
+     * @param number number
+     * @return {@code true} if the number passes the luhn check, otherwise {@code false}
+     */
+    public static boolean isValid(char[] number) {
+        int length = number.length;
+        if (length < MIN_LENGTH || length > MAX_LENGTH) { return false; }
+        int sum = 0;
+        int illegal = 0;
+        for (int i = length - 1, doubled = 0; i >= 0; i--, doubled ^= DOUBLED) {
+            int digit = number[i] - '0';
+            illegal |= digit | (9 - digit);
+            sum += DIGIT_SUM_TABLE[doubled | (digit & 0xF)];
+        }
+        return (illegal >= 0) && (sum % 10 == 0);
+    }
+
+    /**
+     * Return whether the number(ASCII) passes the luhn check.
+     *
+     * @param number number(ASCII)
+     * @return {@code true} if the number passes the luhn check, otherwise {@code false}
+     */
+    public static boolean isValid(byte[] number) {
+        int length = number.length;
+        if (length < MIN_LENGTH || length > MAX_LENGTH) { return false; }
+        int sum = 0;
+        int illegal = 0;
+        for (int i = length - 1, doubled = 0; i >= 0; i--, doubled ^= DOUBLED) {
+            int digit = number[i] - '0';
+            illegal |= digit | (9 - digit);
+            sum += DIGIT_SUM_TABLE[doubled | (digit & 0xF)];
+        }
+        return (illegal >= 0) && (sum % 10 == 0);
+    }
+
+    /**
+     * Return whether the number passes the luhn check.
+     *
+     * @param number number
+     * @return {@code true} if the number passes the luhn check, otherwise {@code false}
+     */
+    public static boolean isValid(long number) {
+        if (number < MIN_VALUE) { return false; }
+        int sum = 0;
+        for (int doubled = 0; number != 0; number /= 10, doubled ^= DOUBLED) {
+            sum += DIGIT_SUM_TABLE[doubled | (int) (number % 10)];
+        }
+        return sum % 10 == 0;
+    }
+
+    /**
+     * Return whether the number passes the luhn check.
+     *
+     * @param number number
+     * @return {@code true} if the number passes the luhn check, otherwise {@code false}
+     */
+    public static boolean isValid(BigInteger number) {
+        if (number.bitLength() < Long.SIZE) {
+            return isValid(number.longValue());
+        } else {
+            return (number.signum() > 0) && isValid(number.toString());
+        }
+    }
+
+    /**
+     * Test all numbers with luhn check.
+     *
+     * @param numbers numbers
+     * @return results, {@code results[i]} is {@code true} if {@code numbers[i]} passes the luhn check
+     */
+    public static boolean[] testAll(long[] numbers) {
+        boolean[] results = new boolean[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            results[i] = isValid(numbers[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Test all numbers with luhn check.
+     *
+     * @param numbers numbers, {@code null} element will not pass the luhn check
+     * @return results, {@code results[i]} is {@code true} if {@code numbers[i]} passes the luhn check
+     */
+    public static boolean[] testAll(CharSequence[] numbers) {
+        boolean[] results = new boolean[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            CharSequence number = numbers[i];
+            results[i] = (number != null) && isValid(number);
+        }
+        return results;
+    }
+
+    // #################### internal utils ################################################
+
+    /** Min value of number with {@link #MIN_LENGTH} digits. */
+    private static final long MIN_VALUE = 10_000_000L;
+    /** Offset of the doubled digits in {@link #DIGIT_SUM_TABLE}. */
+    private static final int DOUBLED = 0x10;
+    /** Digit sum table, indexed by {@code doubled | digit}(values of illegal digits are meaningless). */
+    private static final int[] DIGIT_SUM_TABLE = {
+            0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 0, 0, 0, 0, 0,
+            0, 2, 4, 6, 8, 1, 3, 5, 7, 9, 0, 0, 0, 0, 0, 0 };
+
+}
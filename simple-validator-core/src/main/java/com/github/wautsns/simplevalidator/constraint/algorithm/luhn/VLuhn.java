@@ -7,7 +7,7 @@ import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.Criteri
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -49,8 +49,11 @@ public @interface VLuhn {
     // #################### extra #######################################################
 
     /** Built-in criterion factories. */
-    List<CriterionFactory<VLuhn, ?, ?>> CRITERION_FACTORIES = new LinkedList<>(Collections.singletonList(
-            VLuhnCriterionFactoryForCharSequence.INSTANCE
+    List<CriterionFactory<VLuhn, ?, ?>> CRITERION_FACTORIES = new LinkedList<>(Arrays.asList(
+            VLuhnCriterionFactoryForCharSequence.INSTANCE,
+            VLuhnCriterionFactoryForLong.INSTANCE,
+            VLuhnCriterionFactoryForLongBigInteger.INSTANCE,
+            VLuhnCriterionFactoryForArray.INSTANCE
     ));
 
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.constraint.algorithm.luhn;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.factory.special.CriterionFactoryForArray;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * VLuhn criterion factory for {@code char[]}, {@code byte[]}(ASCII) value.
+ *
+ * @author wautsns
+ * @since Mar 19, 2020
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VLuhnCriterionFactoryForArray extends CriterionFactoryForArray<VLuhn> {
+
+    /** {@code VLuhnCriterionFactoryForArray} instance. */
+    public static final VLuhnCriterionFactoryForArray INSTANCE = new VLuhnCriterionFactoryForArray();
+
+    @Override
+    protected void processCharArray(ConstrainedNode node, VLuhn constraint, CriteriaForNonPrimitive<char[]> wip) {
+        wip.add(CRITERION_FOR_CHAR_ARRAY);
+    }
+
+    @Override
+    protected void processByteArray(ConstrainedNode node, VLuhn constraint, CriteriaForNonPrimitive<byte[]> wip) {
+        wip.add(CRITERION_FOR_BYTE_ARRAY);
+    }
+
+    // #################### criterion ###################################################
+
+    /** Criterion for luhn of {@code char[]}. */
+    protected static final CriterionForNonPrimitive<char[]> CRITERION_FOR_CHAR_ARRAY = new CriterionForNonPrimitive<char[]>() {
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(char[] value) {
+            return LuhnUtils.isValid(value) ? null : new ValidationFailure(value);
+        }
+    };
+
+    /** Criterion for luhn of {@code byte[]}. */
+    protected static final CriterionForNonPrimitive<byte[]> CRITERION_FOR_BYTE_ARRAY = new CriterionForNonPrimitive<byte[]>() {
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(byte[] value) {
+            return LuhnUtils.isValid(value) ? null : new ValidationFailure(value);
+        }
+    };
+
+}
@@ -51,19 +51,7 @@ public class VLuhnCriterionFactoryForCharSequence extends CriterionFactoryForCha
     protected static final CriterionForNonPrimitive<CharSequence> CRITERION = new CriterionForNonPrimitive<CharSequence>() {
         @Override
         protected ValidationFailure testWithoutEnhancingFailure(CharSequence value) {
-            int length = value.length();
-            if (length < 8 || length > 19) { return new ValidationFailure(value); }
-            int sum = 0;
-            for (int i = 0; i < length; i++) {
-                int digit = value.charAt(i) - '0';
-                if ((i & 1) == 0) {
-                    sum += digit;
-                } else {
-                    digit <<= 1;
-                    sum += (digit < 9) ? digit : (digit - 9);
-                }
-            }
-            return ((sum % 10) == 0) ? null : new ValidationFailure(value);
+            return LuhnUtils.isValid(value) ? null : new ValidationFailure(value);
         }
     };
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.constraint.algorithm.luhn;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForLong;
+import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForLong;
+import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactoryForLong;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * VLuhn criterion factory for {@code long} value.
+ *
+ * @author wautsns
+ * @since Mar 19, 2020
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VLuhnCriterionFactoryForLong extends CriterionFactoryForLong<VLuhn> {
+
+    /** {@code VLuhnCriterionFactoryForLong} instance. */
+    public static final VLuhnCriterionFactoryForLong INSTANCE = new VLuhnCriterionFactoryForLong();
+
+    @Override
+    public void process(ConstrainedNode node, VLuhn constraint, CriteriaForLong wip) {
+        wip.add(CRITERION);
+    }
+
+    // #################### criterion ###################################################
+
+    /** Criterion for luhn. */
+    protected static final CriterionForLong CRITERION = new CriterionForLong() {
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(long value) {
+            return LuhnUtils.isValid(value) ? null : new ValidationFailure(value);
+        }
+    };
+
+}
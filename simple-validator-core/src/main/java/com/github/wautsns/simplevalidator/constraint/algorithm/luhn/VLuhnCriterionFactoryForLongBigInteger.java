@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.constraint.algorithm.luhn;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactoryForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
+import com.github.wautsns.simplevalidator.util.common.TypeUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+
+/**
+ * VLuhn criterion factory for {@code Long}, {@code BigInteger} value.
+ *
+ * @author wautsns
+ * @since Mar 19, 2020
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VLuhnCriterionFactoryForLongBigInteger extends CriterionFactoryForNonPrimitive<VLuhn, Number> {
+
+    /** {@code VLuhnCriterionFactoryForLongBigInteger} instance. */
+    public static final VLuhnCriterionFactoryForLongBigInteger INSTANCE = new VLuhnCriterionFactoryForLongBigInteger();
+
+    @Override
+    public boolean applyTo(Type type, VLuhn constraint) {
+        return TypeUtils.isAssignableToAny(type, Long.class, BigInteger.class);
+    }
+
+    @Override
+    public void process(ConstrainedNode node, VLuhn constraint, CriteriaForNonPrimitive<Number> wip) {
+        wip.add(CRITERION);
+    }
+
+    // #################### criterion ###################################################
+
+    /** Criterion for luhn. */
+    protected static final CriterionForNonPrimitive<Number> CRITERION = new CriterionForNonPrimitive<Number>() {
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(Number value) {
+            boolean valid = (value instanceof BigInteger)
+                    ? LuhnUtils.isValid((BigInteger) value)
+                    : LuhnUtils.isValid(value.longValue());
+            return valid ? null : new ValidationFailure(value);
+        }
+    };
+
+}
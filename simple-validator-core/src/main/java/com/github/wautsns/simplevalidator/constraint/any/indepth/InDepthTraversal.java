@@ -0,0 +1,331 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.constraint.any.indepth;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
+import com.github.wautsns.simplevalidator.kernal.criterion.util.ValidationContext;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * In-depth traversal of nested objects.
+ *
+ * <p>Nested objects are tracked by the bound {@link ValidationContext}(if absent, the outermost in-depth node will
+ * bind one):
+ * <ul>
+ * <li>An object which is already on the current path(in identity) will be skipped, so cyclic graphs are safe.</li>
+ * <li>If the depth or the count of nested objects exceeds the limit, a failure(message template is
+ * {@value #MESSAGE_TEMPLATE}) located at the node of the exceeding object will be returned.</li>
+ * <li>If the segment depth is set, every {@code segmentDepth} levels of nested objects will be traversed on a new
+ * stack segment, so very deep graphs will not overflow the stack of the caller.</li>
+ * </ul>
+ *
+ * <p>Stack segments run on a bounded pool of reused threads(at most {@link #getMaxSegmentThreads()}). Tasks are never
+ * queued, so nested segments cannot deadlock waiting for each other: if all the threads are busy(eg. under concurrent
+ * validation, or the graph is deeper than {@code segmentDepth * maxSegmentThreads}), the traversal stops there with
+ * the same failure as an exceeded limit, instead of going on to overflow the current stack.
+ *
+ * <p>Only the {@link ValidationContext} and the context class loader of the caller are carried onto segment threads,
+ * other thread-locals are not visible to criteria of objects traversed on them.
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ */
+@UtilityClass
+public class InDepthTraversal {
+
+    /** Message template of the failure when the limit is exceeded. */
+    public static final String MESSAGE_TEMPLATE = "[`VInDepth`]";
+
+    /** Max depth of nested objects, {@link Integer#MAX_VALUE} means unlimited. */
+    private static volatile int maxDepth = Integer.MAX_VALUE;
+    /** Max count of nested objects under an outermost in-depth node, {@link Integer#MAX_VALUE} means unlimited. */
+    private static volatile int maxCount = Integer.MAX_VALUE;
+    /** Depth of every stack segment, {@code 0} means the whole graph is traversed on the stack of the caller. */
+    private static volatile int segmentDepth = 0;
+    /** Stack size(in bytes) of every stack segment, {@code 0} means the default of the JVM. */
+    private static volatile long segmentStackSize = 0;
+    /** Max count of threads running stack segments. */
+    private static volatile int maxSegmentThreads = 64;
+    /** Executor of stack segments, created lazily. */
+    private static volatile ThreadPoolExecutor segmentExecutor;
+
+    /**
+     * Get max depth of nested objects.
+     *
+     * @return max depth of nested objects
+     */
+    public static int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Set max depth of nested objects.
+     *
+     * @param maxDepth max depth of nested objects, {@link Integer#MAX_VALUE} means unlimited
+     * @throws IllegalArgumentException if the max depth is not positive
+     */
+    public static void setMaxDepth(int maxDepth) {
+        if (maxDepth <= 0) { throw new IllegalArgumentException("Max depth must be positive."); }
+        InDepthTraversal.maxDepth = maxDepth;
+    }
+
+    /**
+     * Get max count of nested objects under an outermost in-depth node.
+     *
+     * @return max count of nested objects under an outermost in-depth node
+     */
+    public static int getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * Set max count of nested objects under an outermost in-depth node.
+     *
+     * @param maxCount max count of nested objects, {@link Integer#MAX_VALUE} means unlimited
+     * @throws IllegalArgumentException if the max count is not positive
+     */
+    public static void setMaxCount(int maxCount) {
+        if (maxCount <= 0) { throw new IllegalArgumentException("Max count must be positive."); }
+        InDepthTraversal.maxCount = maxCount;
+    }
+
+    /**
+     * Get depth of every stack segment.
+     *
+     * @return depth of every stack segment, {@code 0} means no segment
+     */
+    public static int getSegmentDepth() {
+        return segmentDepth;
+    }
+
+    /**
+     * Set depth of every stack segment.
+     *
+     * @param segmentDepth depth of every stack segment, {@code 0} means no segment
+     * @throws IllegalArgumentException if the segment depth is negative
+     */
+    public static void setSegmentDepth(int segmentDepth) {
+        if (segmentDepth < 0) { throw new IllegalArgumentException("Segment depth cannot be negative."); }
+        InDepthTraversal.segmentDepth = segmentDepth;
+    }
+
+    /**
+     * Get stack size(in bytes) of every stack segment.
+     *
+     * @return stack size of every stack segment, {@code 0} means the default of the JVM
+     */
+    public static long getSegmentStackSize() {
+        return segmentStackSize;
+    }
+
+    /**
+     * Set stack size(in bytes) of every stack segment.
+     *
+     * @param segmentStackSize stack size of every stack segment, {@code 0} means the default of the JVM
+     * @throws IllegalArgumentException if the stack size is negative
+     */
+    public static synchronized void setSegmentStackSize(long segmentStackSize) {
+        if (segmentStackSize < 0) { throw new IllegalArgumentException("Stack size cannot be negative."); }
+        InDepthTraversal.segmentStackSize = segmentStackSize;
+        resetSegmentExecutor();
+    }
+
+    /**
+     * Get max count of threads running stack segments.
+     *
+     * @return max count of threads running stack segments
+     */
+    public static int getMaxSegmentThreads() {
+        return maxSegmentThreads;
+    }
+
+    /**
+     * Set max count of threads running stack segments, default is {@code 64}.
+     *
+     * @param maxSegmentThreads max count of threads running stack segments
+     * @throws IllegalArgumentException if the max count is not positive
+     */
+    public static synchronized void setMaxSegmentThreads(int maxSegmentThreads) {
+        if (maxSegmentThreads <= 0) { throw new IllegalArgumentException("Max segment threads must be positive."); }
+        InDepthTraversal.maxSegmentThreads = maxSegmentThreads;
+        resetSegmentExecutor();
+    }
+
+    /**
+     * Return whether results of nested objects can be memoized.
+     *
+     * <p>Results cannot be memoized if the depth or the count is limited, since a memoized result would be reused on
+     * a path of another depth, and memoized objects would not be counted.
+     *
+     * @return {@code true} if results of nested objects can be memoized, otherwise {@code false}
+     * @see ValidationContext#execute(Criterion, Object, boolean)
+     */
+    static boolean isMemoizable() {
+        return maxDepth == Integer.MAX_VALUE && maxCount == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Traverse the nested object.
+     *
+     * @param node node of the nested object
+     * @param value nested object(not null)
+     * @param validator validator of the nested object, the location of the failure should have been enhanced
+     * @return failure, or {@code null} if the nested object passes(or is on the current path)
+     */
+    static ValidationFailure traverse(
+            ConstrainedNode node, Object value, Function<Object, ValidationFailure> validator) {
+        ValidationContext context = ValidationContext.getCurrent();
+        if (context != null) { return traverse(context, node, value, validator); }
+        ValidationContext newContext = new ValidationContext();
+        return ValidationContext.runWith(newContext, () -> traverse(newContext, node, value, validator));
+    }
+
+    // #################### internal utils ################################################
+
+    /**
+     * Traverse the nested object in the context.
+     *
+     * @param context context bound to the current thread
+     * @param node node of the nested object
+     * @param value nested object
+     * @param validator validator of the nested object
+     * @return failure, or {@code null} if the nested object passes(or is on the current path)
+     */
+    private static ValidationFailure traverse(
+            ValidationContext context, ConstrainedNode node, Object value,
+            Function<Object, ValidationFailure> validator) {
+        if (!context.enter(value)) { return null; }
+        try {
+            int depth = context.getDepth();
+            if (depth > maxDepth || context.getCount() > maxCount) { return exceed(node, value); }
+            int segmentDepth = InDepthTraversal.segmentDepth;
+            if (segmentDepth > 0 && depth % segmentDepth == 0) {
+                return traverseOnNewSegment(context, node, value, validator);
+            }
+            return validator.apply(value);
+        } finally {
+            context.exit(value);
+        }
+    }
+
+    /**
+     * Get failure of the nested object which exceeds the limit.
+     *
+     * @param node node of the nested object
+     * @param value nested object
+     * @return failure of the nested object which exceeds the limit
+     */
+    private static ValidationFailure exceed(ConstrainedNode node, Object value) {
+        return new ValidationFailure(value)
+                .setMessageTemplate(MESSAGE_TEMPLATE)
+                .put(ValidationFailure.Variables.LOCATION, node.getLocation());
+    }
+
+    /**
+     * Traverse the nested object on a new stack segment.
+     *
+     * <p>The caller will wait until the traversal on the new stack segment finishes, so the context is never accessed
+     * concurrently. If no segment thread is available, the nested object will be treated as exceeding the limit.
+     *
+     * @param context context bound to the current thread
+     * @param node node of the nested object
+     * @param value nested object
+     * @param validator validator of the nested object
+     * @return failure, or {@code null} if the nested object passes
+     */
+    private static ValidationFailure traverseOnNewSegment(
+            ValidationContext context, ConstrainedNode node, Object value,
+            Function<Object, ValidationFailure> validator) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        FutureTask<ValidationFailure> segment = new FutureTask<>(() -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader original = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                return ValidationContext.runWith(context, () -> validator.apply(value));
+            } finally {
+                thread.setContextClassLoader(original);
+            }
+        });
+        try {
+            getSegmentExecutor().execute(segment);
+        } catch (RejectedExecutionException e) {
+            // traversing on the current stack may overflow it
+            return exceed(node, value);
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return segment.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) { throw (RuntimeException) cause; }
+                    if (cause instanceof Error) { throw (Error) cause; }
+                    throw new IllegalStateException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) { Thread.currentThread().interrupt(); }
+        }
+    }
+
+    /**
+     * Get executor of stack segments.
+     *
+     * @return executor of stack segments
+     */
+    private static ThreadPoolExecutor getSegmentExecutor() {
+        ThreadPoolExecutor executor = segmentExecutor;
+        if (executor != null) { return executor; }
+        synchronized (InDepthTraversal.class) {
+            if (segmentExecutor == null) {
+                long stackSize = segmentStackSize;
+                AtomicInteger threadCount = new AtomicInteger();
+                // no queue: tasks are rejected immediately if all threads are busy
+                segmentExecutor = new ThreadPoolExecutor(
+                        0, maxSegmentThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                            String name = "simple-validator-in-depth-segment-" + threadCount.incrementAndGet();
+                            Thread thread = new Thread(null, runnable, name, stackSize);
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+            }
+            return segmentExecutor;
+        }
+    }
+
+    /** Shut down the executor of stack segments(running segments will finish), a new one will be created lazily. */
+    private static void resetSegmentExecutor() {
+        ThreadPoolExecutor executor = segmentExecutor;
+        segmentExecutor = null;
+        if (executor != null) { executor.shutdown(); }
+    }
+
+}
@@ -15,18 +15,20 @@
  */
 package com.github.wautsns.simplevalidator.constraint.any.indepth;
 
-import com.github.wautsns.simplevalidator.Validator;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForNonPrimitive;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.special.CriterionFactoryForAnyNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.util.CriterionInlineCache;
 import com.github.wautsns.simplevalidator.kernal.criterion.util.CriterionUtils;
+import com.github.wautsns.simplevalidator.kernal.criterion.util.ValidationContext;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
 import com.github.wautsns.simplevalidator.util.common.TypeUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.util.LinkedList;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -62,17 +64,27 @@ public class VInDepthCriterionFactoryForAnyNonPrimitive extends CriterionFactory
     /**
      * Produce criterion for dynamic in-depth.
      *
+     * <p>The criteria for the runtime classes are looked up through an inline cache, since the values of a node
+     * usually have only a handful of runtime classes.
+     *
      * @param node constrained node
      * @return criterion for dynamic in-depth
      */
     private static CriterionForNonPrimitive<Object> produceForDynamic(ConstrainedNode node) {
         UnaryOperator<ValidationFailure> failureEnhancer = initVInDepthFailureEnhancer(node);
+        CriterionInlineCache criterionInlineCache = new CriterionInlineCache();
+        Function<Object, ValidationFailure> validator = value -> {
+            Criterion criterion = criterionInlineCache.getForType(value.getClass());
+            ValidationFailure failure = ValidationContext.getCurrent()
+                    .execute(criterion, value, InDepthTraversal.isMemoizable());
+            if (failure == null) { return null; }
+            return failureEnhancer.apply(failure);
+        };
         return new CriterionForNonPrimitive<Object>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(Object value) {
-                ValidationFailure failure = Validator.validatePolitely(value);
-                if (failure == null) { return null; }
-                return failureEnhancer.apply(failure);
+                if (value == null) { return null; }
+                return InDepthTraversal.traverse(node, value, validator);
             }
         };
     }
@@ -80,14 +92,36 @@ public class VInDepthCriterionFactoryForAnyNonPrimitive extends CriterionFactory
     /**
      * Produce criterion for static in-depth.
      *
+     * <p>The criterion for the class is shared, so the failure is enhanced by the produced criterion instead. And the
+     * criterion for the class is initialized lazily, since the class may be self-referential.
+     *
      * @param node constrained node
      * @return criterion for static in-depth
      */
     private static CriterionForNonPrimitive<Object> produceForStatic(ConstrainedNode node) {
         Class<?> clazz = TypeUtils.getClass(node.getType());
-        CriterionForNonPrimitive<Object> criterion = CriterionUtils.getForType(clazz);
-        criterion.addValidationFailureEnhancer(initVInDepthFailureEnhancer(node));
-        return criterion;
+        UnaryOperator<ValidationFailure> failureEnhancer = initVInDepthFailureEnhancer(node);
+        return new CriterionForNonPrimitive<Object>() {
+
+            /** Criterion for the class. */
+            private volatile CriterionForNonPrimitive<Object> criterion;
+            /** Validator of the nested object. */
+            private final Function<Object, ValidationFailure> validator = value -> {
+                CriterionForNonPrimitive<Object> criterion = this.criterion;
+                if (criterion == null) { this.criterion = criterion = CriterionUtils.getForType(clazz); }
+                ValidationFailure failure = ValidationContext.getCurrent()
+                        .execute(criterion, value, InDepthTraversal.isMemoizable());
+                if (failure == null) { return null; }
+                return failureEnhancer.apply(failure);
+            };
+
+            @Override
+            protected ValidationFailure testWithoutEnhancingFailure(Object value) {
+                if (value == null) { return null; }
+                return InDepthTraversal.traverse(node, value, validator);
+            }
+
+        };
     }
 
     /**
@@ -97,15 +131,10 @@ public class VInDepthCriterionFactoryForAnyNonPrimitive extends CriterionFactory
      * @return VInDepth failure enhancer
      */
     private static UnaryOperator<ValidationFailure> initVInDepthFailureEnhancer(ConstrainedNode node) {
-        LinkedList<String> nodeNames = node.getLocation().copyNodeNames();
+        ConstrainedNode.Location location = node.getLocation();
         return failure -> {
-            LinkedList<String> subNodeNames = failure
-                    .getValue(ValidationFailure.Variables.LOCATION)
-                    .copyNodeNames();
-            subNodeNames.removeFirst();
-            subNodeNames.addAll(0, nodeNames);
-            ConstrainedNode.Location subLocation = new ConstrainedNode.Location(subNodeNames);
-            failure.put(ValidationFailure.Variables.LOCATION, subLocation);
+            ConstrainedNode.Location subLocation = failure.getValue(ValidationFailure.Variables.LOCATION);
+            failure.put(ValidationFailure.Variables.LOCATION, location.graft(subLocation));
             return failure;
         };
     }
@@ -23,10 +23,17 @@ import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * VWithSpel criterion factory for any type.
  *
@@ -44,28 +51,93 @@ public class VWithSpelCriterionFactoryForAnyType extends CriterionFactoryForAnyT
         wip.add(produce(constraint));
     }
 
+    /**
+     * Get expressions which cannot be compiled.
+     *
+     * <p>Such expressions failed to be compiled {@value #MAX_COMPILATION_ATTEMPTS} times, and are evaluated in
+     * interpreted mode unless the spel compiler(mixed mode) succeeds later by itself.
+     *
+     * @return expressions which cannot be compiled(unmodifiable)
+     */
+    public static Set<String> getUncompilableExpressions() {
+        return Collections.unmodifiableSet(UNCOMPILABLE_EXPRESSIONS);
+    }
+
     // #################### criterion ###################################################
 
-    /** Spel parser. */
-    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
-    /** Spel context. */
-    private static final StandardEvaluationContext CTX = new StandardEvaluationContext();
+    /** Spel parser(compiled expressions fall back to interpretation if they fail). */
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(new SpelParserConfiguration(
+            SpelCompilerMode.MIXED, VWithSpelCriterionFactoryForAnyType.class.getClassLoader()));
+    /** Spel context(read-only after initialization, shared by all expressions). */
+    private static final StandardEvaluationContext CTX = initEvaluationContext();
+    /** Expressions which cannot be compiled. */
+    private static final Set<String> UNCOMPILABLE_EXPRESSIONS = ConcurrentHashMap.newKeySet();
+    /** Max number of compilation attempts before the expression is regarded as uncompilable. */
+    private static final int MAX_COMPILATION_ATTEMPTS = 8;
 
     /**
      * Produce criterion.
      *
+     * <p>The expression can be compiled only after the types on its evaluated branches are known, and an untaken
+     * branch(eg. {@code value == null || value.length() > 3} with a null value) may prevent the compilation. So the
+     * compilation is attempted after the 1st, 2nd, 4th, ... evaluation, until it succeeds or
+     * {@value #MAX_COMPILATION_ATTEMPTS} attempts fail.
+     *
      * @param constraint constraint
      * @return criterion
      */
     protected static CriterionForNonPrimitive<?> produce(VWithSpel constraint) {
         String expr = constraint.expr();
         SpelExpression spel = PARSER.parseRaw(expr);
+        AtomicInteger evaluations = new AtomicInteger();
         return new CriterionForNonPrimitive<Object>() {
+
+            /** Whether the expression is compiled or regarded as uncompilable. */
+            private volatile boolean compilationSettled;
+
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(Object value) {
-                return Boolean.TRUE.equals(spel.getValue(value)) ? null : new ValidationFailure(value);
+                boolean passed = Boolean.TRUE.equals(spel.getValue(CTX, value));
+                if (!compilationSettled) { tryCompiling(evaluations.incrementAndGet()); }
+                return passed ? null : new ValidationFailure(value);
             }
+
+            /**
+             * Try compiling the expression if the evaluation count is a power of two.
+             *
+             * @param evaluationCount evaluation count
+             */
+            private void tryCompiling(int evaluationCount) {
+                if ((evaluationCount & (evaluationCount - 1)) != 0) { return; }
+                if (spel.compileExpression()) {
+                    compilationSettled = true;
+                } else if (evaluationCount >= (1 << (MAX_COMPILATION_ATTEMPTS - 1))) {
+                    UNCOMPILABLE_EXPRESSIONS.add(expr);
+                    compilationSettled = true;
+                }
+            }
+
         };
     }
 
+    // #################### internal utils ################################################
+
+    /**
+     * Initialize evaluation context.
+     *
+     * <p>Components of {@code StandardEvaluationContext} are initialized lazily, they are initialized eagerly here so
+     * that the context is never modified when evaluating concurrently.
+     *
+     * @return evaluation context
+     */
+    private static StandardEvaluationContext initEvaluationContext() {
+        StandardEvaluationContext ctx = new StandardEvaluationContext();
+        ctx.getPropertyAccessors();
+        ctx.getConstructorResolvers();
+        ctx.getMethodResolvers();
+        ctx.getTypeLocator();
+        ctx.getTypeConverter();
+        return ctx;
+    }
+
 }
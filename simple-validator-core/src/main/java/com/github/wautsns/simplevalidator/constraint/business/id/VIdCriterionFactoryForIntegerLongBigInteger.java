@@ -25,6 +25,7 @@ import java.lang.reflect.Type;
 import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * VId criterion factory for {@code Integer}, {@code Long}, {@code BigInteger} value.
@@ -70,22 +71,35 @@ public class VIdCriterionFactoryForIntegerLongBigInteger extends CriterionFactor
      */
     private static CriterionForNonPrimitive<Comparable<Number>> initForUnsigned(ConstrainedNode node) {
         Class<?> clazz = TypeUtils.getClass(node.getType());
-        Number max = UNSIGNED_MAX_VALUE_MAP.get(clazz);
+        ToIntFunction<Number> comparator = UNSIGNED_MAX_VALUE_COMPARATOR_MAP.get(clazz);
         return new CriterionForNonPrimitive<Comparable<Number>>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(Comparable<Number> value) {
-                return le(value, max) ? null : new ValidationFailure(value);
+                return (comparator.applyAsInt((Number) value) <= 0) ? null : new ValidationFailure(value);
             }
         };
     }
 
-    /** Type({@code T extends Number & Comparable<T>}) -> unsigned max value map. */
-    private static final Map<Class<?>, Number> UNSIGNED_MAX_VALUE_MAP;
+    /** Type({@code T extends Number & Comparable<T>}) -> unsigned max value comparator map. */
+    private static final Map<Class<?>, ToIntFunction<Number>> UNSIGNED_MAX_VALUE_COMPARATOR_MAP;
 
     static {
-        UNSIGNED_MAX_VALUE_MAP = new HashMap<>(4);
-        UNSIGNED_MAX_VALUE_MAP.put(Long.class, 4294967295L);
-        UNSIGNED_MAX_VALUE_MAP.put(BigInteger.class, new BigInteger("18446744073709551615"));
+        UNSIGNED_MAX_VALUE_COMPARATOR_MAP = new HashMap<>(4);
+        UNSIGNED_MAX_VALUE_COMPARATOR_MAP.put(Long.class, toNumberComparator(initComparator(4294967295L)));
+        UNSIGNED_MAX_VALUE_COMPARATOR_MAP.put(
+                BigInteger.class, toNumberComparator(initComparator(new BigInteger("18446744073709551615"))));
+    }
+
+    /**
+     * Convert the comparator to a comparator for {@code Number} value.
+     *
+     * @param comparator comparator
+     * @param <T> type of value
+     * @return comparator for {@code Number} value
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Number> ToIntFunction<Number> toNumberComparator(ToIntFunction<T> comparator) {
+        return (ToIntFunction<Number>) (ToIntFunction<?>) comparator;
     }
 
 }
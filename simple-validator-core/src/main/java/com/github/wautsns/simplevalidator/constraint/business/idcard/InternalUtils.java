@@ -15,19 +15,15 @@ package com.github.wautsns.simplevalidator.constraint.business.idcard;
 import com.github.wautsns.simplevalidator.util.common.CollectionUtils;
 import lombok.experimental.UtilityClass;
 
-import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.IntPredicate;
 
 /**
  * Internal utils for {@code VChineseIdCard}.
@@ -90,74 +86,183 @@ class InternalUtils {
 
     // #################### cities ######################################################
 
-    private static final Map<Integer, String> CITY_CODE_NAME_MAP = new HashMap<>();
+    /** City names indexed by city code. */
+    private static final String[] CITY_NAMES = new String[100];
 
     static {
-        CITY_CODE_NAME_MAP.put(11, "北京");
-        CITY_CODE_NAME_MAP.put(12, "天津");
-        CITY_CODE_NAME_MAP.put(13, "河北");
-        CITY_CODE_NAME_MAP.put(14, "山西");
-        CITY_CODE_NAME_MAP.put(15, "内蒙古");
-
-        CITY_CODE_NAME_MAP.put(21, "辽宁");
-        CITY_CODE_NAME_MAP.put(22, "吉林");
-        CITY_CODE_NAME_MAP.put(23, "黑龙江");
-
-        CITY_CODE_NAME_MAP.put(31, "上海");
-        CITY_CODE_NAME_MAP.put(32, "江苏");
-        CITY_CODE_NAME_MAP.put(33, "浙江");
-        CITY_CODE_NAME_MAP.put(34, "安徽");
-        CITY_CODE_NAME_MAP.put(35, "福建");
-        CITY_CODE_NAME_MAP.put(36, "江西");
-        CITY_CODE_NAME_MAP.put(37, "山东");
-
-        CITY_CODE_NAME_MAP.put(41, "河南");
-        CITY_CODE_NAME_MAP.put(42, "湖北");
-        CITY_CODE_NAME_MAP.put(43, "湖南");
-        CITY_CODE_NAME_MAP.put(44, "广东");
-        CITY_CODE_NAME_MAP.put(45, "广西");
-        CITY_CODE_NAME_MAP.put(46, "海南");
-
-        CITY_CODE_NAME_MAP.put(50, "重庆");
-        CITY_CODE_NAME_MAP.put(51, "四川");
-        CITY_CODE_NAME_MAP.put(52, "贵州");
-        CITY_CODE_NAME_MAP.put(53, "云南");
-        CITY_CODE_NAME_MAP.put(54, "西藏");
-
-        CITY_CODE_NAME_MAP.put(61, "陕西");
-        CITY_CODE_NAME_MAP.put(62, "甘肃");
-        CITY_CODE_NAME_MAP.put(63, "青海");
-        CITY_CODE_NAME_MAP.put(64, "宁夏");
-        CITY_CODE_NAME_MAP.put(65, "新疆");
-
-        CITY_CODE_NAME_MAP.put(71, "台湾");
-
-        CITY_CODE_NAME_MAP.put(81, "香港");
-        CITY_CODE_NAME_MAP.put(82, "澳门");
+        CITY_NAMES[11] = "北京";
+        CITY_NAMES[12] = "天津";
+        CITY_NAMES[13] = "河北";
+        CITY_NAMES[14] = "山西";
+        CITY_NAMES[15] = "内蒙古";
+
+        CITY_NAMES[21] = "辽宁";
+        CITY_NAMES[22] = "吉林";
+        CITY_NAMES[23] = "黑龙江";
+
+        CITY_NAMES[31] = "上海";
+        CITY_NAMES[32] = "江苏";
+        CITY_NAMES[33] = "浙江";
+        CITY_NAMES[34] = "安徽";
+        CITY_NAMES[35] = "福建";
+        CITY_NAMES[36] = "江西";
+        CITY_NAMES[37] = "山东";
+
+        CITY_NAMES[41] = "河南";
+        CITY_NAMES[42] = "湖北";
+        CITY_NAMES[43] = "湖南";
+        CITY_NAMES[44] = "广东";
+        CITY_NAMES[45] = "广西";
+        CITY_NAMES[46] = "海南";
+
+        CITY_NAMES[50] = "重庆";
+        CITY_NAMES[51] = "四川";
+        CITY_NAMES[52] = "贵州";
+        CITY_NAMES[53] = "云南";
+        CITY_NAMES[54] = "西藏";
+
+        CITY_NAMES[61] = "陕西";
+        CITY_NAMES[62] = "甘肃";
+        CITY_NAMES[63] = "青海";
+        CITY_NAMES[64] = "宁夏";
+        CITY_NAMES[65] = "新疆";
+
+        CITY_NAMES[71] = "台湾";
+
+        CITY_NAMES[81] = "香港";
+        CITY_NAMES[82] = "澳门";
     }
 
-    public static Map<Integer, String> toCityNameMap(String[] cities) {
-        if (cities == null || cities.length == 0) { return CITY_CODE_NAME_MAP; }
-        Set<String> citySet = new HashSet<>(Arrays.asList(cities));
-        return CITY_CODE_NAME_MAP.entrySet().stream()
-                .filter(e -> citySet.contains(e.getValue()))
-                .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+    /**
+     * Get table of the allowed city codes.
+     *
+     * @param cities city names, all cities are allowed if it is empty
+     * @return table indexed by city code, {@code true} if the city is allowed
+     */
+    public static boolean[] toCityCodeTable(String[] cities) {
+        Set<String> citySet = (cities == null) ? Collections.emptySet() : new HashSet<>(Arrays.asList(cities));
+        boolean[] table = new boolean[CITY_NAMES.length];
+        for (int code = 0; code < CITY_NAMES.length; code++) {
+            String name = CITY_NAMES[code];
+            table[code] = (name != null) && (citySet.isEmpty() || citySet.contains(name));
+        }
+        return table;
     }
 
     // #################### birthday ####################################################
 
     private static final ZoneId GMT8 = ZoneId.of("+8");
 
-    public static LocalDate getBirthday(int year, int month, int dayOfMonth) {
-        try {
-            return LocalDate.of(year, month, dayOfMonth);
-        } catch (DateTimeException e) {
-            return null;
+    /** Ages in the age table are in range [0, AGE_TABLE_SIZE). */
+    private static final int AGE_TABLE_SIZE = 256;
+
+    /** Cached today. */
+    private static volatile Today today = new Today(System.currentTimeMillis());
+
+    /**
+     * Return whether the date is valid.
+     *
+     * @param year year
+     * @param month month
+     * @param dayOfMonth day of month
+     * @return {@code true} if the date is valid, otherwise {@code false}
+     */
+    public static boolean isValidDate(int year, int month, int dayOfMonth) {
+        if (month < 1 || month > 12 || dayOfMonth < 1) { return false; }
+        if (month == 2) {
+            boolean leap = ((year & 3) == 0) && ((year % 100 != 0) || (year % 400 == 0));
+            return dayOfMonth <= (leap ? 29 : 28);
         }
+        return dayOfMonth <= DAYS_OF_MONTH[month];
     }
 
-    public static int getAge(LocalDate birthday) {
-        return (int) ChronoUnit.YEARS.between(birthday, LocalDate.now(GMT8));
+    /** Days of month(non-leap year) indexed by month. */
+    private static final int[] DAYS_OF_MONTH = { 0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    /**
+     * Get age at today(GMT+8).
+     *
+     * <p>The result is the same as {@code ChronoUnit.YEARS.between(birthday, today)}.
+     *
+     * @param year year of birthday
+     * @param month month of birthday
+     * @param dayOfMonth day of month of birthday
+     * @return age
+     */
+    public static int getAge(int year, int month, int dayOfMonth) {
+        Today today = getToday();
+        int monthDay = month * 32 + dayOfMonth;
+        if (year < today.year || (year == today.year && monthDay <= today.monthDay)) {
+            return today.year - year - ((monthDay > today.monthDay) ? 1 : 0);
+        } else {
+            return -(year - today.year - ((today.monthDay > monthDay) ? 1 : 0));
+        }
+    }
+
+    /**
+     * Get table of the allowed ages.
+     *
+     * @param agePredicate age predicate, all ages are allowed if it is {@code null}
+     * @return table indexed by age in range [0, 256), {@code true} if the age is allowed
+     */
+    public static boolean[] toAgeTable(IntPredicate agePredicate) {
+        boolean[] table = new boolean[AGE_TABLE_SIZE];
+        for (int age = 0; age < AGE_TABLE_SIZE; age++) {
+            table[age] = (agePredicate == null) || agePredicate.test(age);
+        }
+        return table;
+    }
+
+    /**
+     * Test age with the age table and the age predicate.
+     *
+     * @param ageTable age table
+     * @param agePredicate age predicate, all ages are allowed if it is {@code null}
+     * @param age age
+     * @return {@code true} if the age is allowed, otherwise {@code false}
+     */
+    public static boolean testAge(boolean[] ageTable, IntPredicate agePredicate, int age) {
+        if (age >= 0 && age < AGE_TABLE_SIZE) { return ageTable[age]; }
+        return (agePredicate == null) || agePredicate.test(age);
+    }
+
+    /**
+     * Get today, it will be refreshed after midnight(GMT+8).
+     *
+     * @return today
+     */
+    private static Today getToday() {
+        Today today = InternalUtils.today;
+        long now = System.currentTimeMillis();
+        if (now >= today.expiresAt) {
+            today = new Today(now);
+            InternalUtils.today = today;
+        }
+        return today;
+    }
+
+    /** Today with day granularity. */
+    private static class Today {
+
+        /** Year. */
+        private final int year;
+        /** Month and day of month({@code month * 32 + dayOfMonth}). */
+        private final int monthDay;
+        /** The epoch milliseconds when it expires. */
+        private final long expiresAt;
+
+        /**
+         * Construct today.
+         *
+         * @param epochMilli current epoch milliseconds
+         */
+        private Today(long epochMilli) {
+            LocalDate date = Instant.ofEpochMilli(epochMilli).atZone(GMT8).toLocalDate();
+            this.year = date.getYear();
+            this.monthDay = date.getMonthValue() * 32 + date.getDayOfMonth();
+            this.expiresAt = date.plusDays(1).atStartOfDay(GMT8).toInstant().toEpochMilli();
+        }
+
     }
 
     // #################### gender ######################################################
@@ -180,7 +285,7 @@ class InternalUtils {
         } else {
             genders = Arrays.stream(genders)
                     .distinct()
-                    .filter(Objects::isNull)
+                    .filter(Objects::nonNull)
                     .toArray(VChineseIdCard.Gender[]::new);
             if (genders.length == GENDER_ALL.size()) {
                 return GENDER_ALL;
@@ -190,6 +295,20 @@ class InternalUtils {
         }
     }
 
+    /**
+     * Get table of the allowed genders.
+     *
+     * @param genders genders, all genders are allowed if it is empty
+     * @return table indexed by the parity of serial number, {@code true} if the gender is allowed
+     */
+    public static boolean[] toGenderTable(VChineseIdCard.Gender[] genders) {
+        Set<VChineseIdCard.Gender> genderSet = simplifyGenders(genders);
+        boolean[] table = new boolean[2];
+        table[0] = genderSet.contains(getGender(0));
+        table[1] = genderSet.contains(getGender(1));
+        return table;
+    }
+
     public static VChineseIdCard.Gender getGender(int serialNumber) {
         return ((serialNumber & 1) == 0) ? VChineseIdCard.Gender.FEMALE : VChineseIdCard.Gender.MALE;
     }
@@ -200,19 +319,25 @@ class InternalUtils {
             7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2 };
     private static final String SECOND_GENERATION_CHECK_CODE_CHARS = "10X98765432";
 
-    public static boolean checkSecondGenerationCheckCodeChar(CharSequence id) {
-        char checkCodeChar = id.charAt(17);
-        return SECOND_GENERATION_CHECK_CODE_CHARS.indexOf(checkCodeChar) >= 0;
+    /**
+     * Get weighting factor of the second generation id card.
+     *
+     * @param index index of the digit, in range [0, 17)
+     * @return weighting factor
+     */
+    public static int getSecondGenerationWeightingFactor(int index) {
+        return SECOND_GENERATION_WEIGHTING_FACTORS[index];
     }
 
-    public static boolean checkSecondGenerationCheckCode(CharSequence id) {
-        int weightedSum = 0;
-        for (int i = 0; i < 17; i++) {
-            int number = (id.charAt(i) - '0');
-            weightedSum += SECOND_GENERATION_WEIGHTING_FACTORS[i] * number;
-        }
+    /**
+     * Return whether the check code char is correct.
+     *
+     * @param weightedSum weighted sum of the first 17 digits
+     * @param checkCodeChar check code char
+     * @return {@code true} if the check code char is correct, otherwise {@code false}
+     */
+    public static boolean checkSecondGenerationCheckCode(int weightedSum, char checkCodeChar) {
         char correct = SECOND_GENERATION_CHECK_CODE_CHARS.charAt(weightedSum % 11);
-        char checkCodeChar = id.charAt(17);
         return (correct == checkCodeChar)
                 || (correct == 'X' && checkCodeChar == 'x');
     }
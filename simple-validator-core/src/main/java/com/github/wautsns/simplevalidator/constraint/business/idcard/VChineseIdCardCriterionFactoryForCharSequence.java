@@ -21,9 +21,7 @@ import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDate;
 import java.util.EnumMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.IntPredicate;
 
@@ -85,29 +83,29 @@ public class VChineseIdCardCriterionFactoryForCharSequence extends CriterionFact
      * @return criterion for second generation id card
      */
     private static CriterionForNonPrimitive<CharSequence> initForSecondGeneration(VChineseIdCard constraint) {
-        Map<Integer, String> cityCodeNameMap = InternalUtils.toCityNameMap(constraint.cities());
+        boolean[] cityCodeTable = InternalUtils.toCityCodeTable(constraint.cities());
         IntPredicate agePredicate = DomainUtils.init(constraint.ages()).initPredicateForInt();
-        Set<VChineseIdCard.Gender> genderSet = InternalUtils.simplifyGenders(constraint.genders());
+        boolean[] ageTable = InternalUtils.toAgeTable(agePredicate);
+        boolean[] genderTable = InternalUtils.toGenderTable(constraint.genders());
         return new CriterionForNonPrimitive<CharSequence>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(CharSequence value) {
-                boolean correct;
                 if (value.length() != 18) { return fail(value); }
-                if (!isDigits(value, 0, 17)) { return fail(value); }
-                correct = InternalUtils.checkSecondGenerationCheckCodeChar(value);
-                if (!correct) { return fail(value); }
-                String cityName = cityCodeNameMap.get(toNaturalNumber(value, 0, 2));
-                if (cityName == null) { return fail(value); }
-                LocalDate birthday = InternalUtils.getBirthday(
-                        toNaturalNumber(value, 6, 4),
-                        toNaturalNumber(value, 10, 2),
-                        toNaturalNumber(value, 12, 2));
-                if (birthday == null) { return fail(value); }
-                int age = InternalUtils.getAge(birthday);
-                if (agePredicate != null && !agePredicate.test(age)) { return fail(value); }
-                VChineseIdCard.Gender gender = InternalUtils.getGender(toNaturalNumber(value, 14, 3));
-                if (!genderSet.contains(gender)) { return fail(value); }
-                correct = InternalUtils.checkSecondGenerationCheckCode(value);
+                int weightedSum = 0;
+                for (int i = 0; i < 17; i++) {
+                    int digit = value.charAt(i) - '0';
+                    if (digit < 0 || digit > 9) { return fail(value); }
+                    weightedSum += InternalUtils.getSecondGenerationWeightingFactor(i) * digit;
+                }
+                if (!cityCodeTable[toNaturalNumber(value, 0, 2)]) { return fail(value); }
+                int year = toNaturalNumber(value, 6, 4);
+                int month = toNaturalNumber(value, 10, 2);
+                int dayOfMonth = toNaturalNumber(value, 12, 2);
+                if (!InternalUtils.isValidDate(year, month, dayOfMonth)) { return fail(value); }
+                int age = InternalUtils.getAge(year, month, dayOfMonth);
+                if (!InternalUtils.testAge(ageTable, agePredicate, age)) { return fail(value); }
+                if (!genderTable[(value.charAt(16) - '0') & 1]) { return fail(value); }
+                boolean correct = InternalUtils.checkSecondGenerationCheckCode(weightedSum, value.charAt(17));
                 return correct ? null : fail(value);
             }
         };
@@ -120,26 +118,23 @@ public class VChineseIdCardCriterionFactoryForCharSequence extends CriterionFact
      * @return criterion for first generation id card
      */
     private static CriterionForNonPrimitive<CharSequence> initForFirstGeneration(VChineseIdCard constraint) {
-        Map<Integer, String> cityNameMap = InternalUtils.toCityNameMap(constraint.cities());
+        boolean[] cityCodeTable = InternalUtils.toCityCodeTable(constraint.cities());
         IntPredicate agePredicate = DomainUtils.init(constraint.ages()).initPredicateForInt();
-        Set<VChineseIdCard.Gender> genders = InternalUtils.simplifyGenders(constraint.genders());
+        boolean[] ageTable = InternalUtils.toAgeTable(agePredicate);
+        boolean[] genderTable = InternalUtils.toGenderTable(constraint.genders());
         return new CriterionForNonPrimitive<CharSequence>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(CharSequence value) {
                 if (value.length() != 15) { return fail(value); }
                 if (!isDigits(value, 0, 15)) { return fail(value); }
-                String cityName = cityNameMap.get(toNaturalNumber(value, 0, 2));
-                if (cityName == null) { return fail(value); }
-                LocalDate birthday = InternalUtils.getBirthday(
-                        1900 + toNaturalNumber(value, 6, 2),
-                        toNaturalNumber(value, 8, 2),
-                        toNaturalNumber(value, 10, 2));
-                if (birthday == null) { return fail(value); }
-                int age = InternalUtils.getAge(birthday);
-                if (agePredicate != null && !agePredicate.test(age)) { return fail(value); }
-                VChineseIdCard.Gender gender = InternalUtils.getGender(toNaturalNumber(value, 12, 3));
-                if (!genders.contains(gender)) { return fail(value); }
-                return null;
+                if (!cityCodeTable[toNaturalNumber(value, 0, 2)]) { return fail(value); }
+                int year = 1900 + toNaturalNumber(value, 6, 2);
+                int month = toNaturalNumber(value, 8, 2);
+                int dayOfMonth = toNaturalNumber(value, 10, 2);
+                if (!InternalUtils.isValidDate(year, month, dayOfMonth)) { return fail(value); }
+                int age = InternalUtils.getAge(year, month, dayOfMonth);
+                if (!InternalUtils.testAge(ageTable, agePredicate, age)) { return fail(value); }
+                return genderTable[(value.charAt(14) - '0') & 1] ? null : fail(value);
             }
         };
     }
@@ -163,8 +158,9 @@ public class VChineseIdCardCriterionFactoryForCharSequence extends CriterionFact
      * @return {@code true} the chars of subtext are digits, otherwise {@code false}
      */
     private static boolean isDigits(CharSequence text, int startIndex, int length) {
-        for (int i = 0, l = i + length; i < l; i++) {
-            if (!Character.isDigit(text.charAt(i))) {
+        for (int i = startIndex, l = i + length; i < l; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
                 return false;
             }
         }
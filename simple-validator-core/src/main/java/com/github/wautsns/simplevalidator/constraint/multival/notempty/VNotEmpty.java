@@ -38,7 +38,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Documented
 @Retention(RUNTIME)
 @Target({ FIELD, METHOD, PARAMETER, ANNOTATION_TYPE, TYPE_USE })
-@AConstraint
+@AConstraint(precheck = true)
 @VSize(min = 1, max = Integer.MAX_VALUE)
 public @interface VNotEmpty {
 
@@ -12,23 +12,27 @@
  */
 package com.github.wautsns.simplevalidator.constraint.number.domain;
 
+import com.github.wautsns.simplevalidator.kernal.criterion.factory.special.CriterionFactoryForComparableNumber;
 import com.github.wautsns.simplevalidator.util.function.BytePredicate;
 import com.github.wautsns.simplevalidator.util.function.FloatPredicate;
 import com.github.wautsns.simplevalidator.util.function.ShortPredicate;
 import com.github.wautsns.simplevalidator.util.valuehandle.NumericTextParser;
+import com.github.wautsns.simplevalidator.util.valuehandle.NumericTextScanner;
+import com.github.wautsns.simplevalidator.util.valuehandle.NumericTextScanner.Reference;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -74,24 +78,6 @@ public class DomainUtils {
         }
     }
 
-    /**
-     * Parse numeric text to {@code BigDecimal} value.
-     *
-     * @param numericText numeric text
-     * @return {@code BigDecimal} value
-     */
-    private static BigDecimal parseNumericTextToBigDecimal(CharSequence numericText) {
-        if (numericText instanceof String) {
-            return new BigDecimal((String) numericText);
-        } else {
-            char[] numericChars = new char[numericText.length()];
-            for (int i = 0; i < numericChars.length; i++) {
-                numericChars[i] = numericText.charAt(i);
-            }
-            return new BigDecimal(numericChars);
-        }
-    }
-
     /** Domain. */
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Domain implements DomainUnit {
@@ -108,22 +94,31 @@ public class DomainUtils {
             this.domainUnits.addAll(domain.domainUnits);
         }
 
+        /**
+         * Return whether the domain is a range.
+         *
+         * <p>A domain is a range if all domain units are ranges(the intersection of ranges is a range too).
+         *
+         * @return {@code true} if the domain is a range, otherwise {@code false}
+         */
+        public boolean isRange() {
+            return domainUnits.stream().allMatch(RangeUnit.class::isInstance);
+        }
+
         @Override
         public Predicate<CharSequence> initPredicateForNumericText() {
-            Predicate<BigDecimal> predicate = initPredicateForComparableNumber(BigDecimal.class);
-            if (predicate == null) { return null; }
+            List<Predicate<CharSequence>> predicates = domainUnits.stream()
+                    .map(DomainUnit::initPredicateForNumericText)
+                    .collect(Collectors.toCollection(LinkedList::new));
+            if (predicates.isEmpty()) { return null; }
+            if (predicates.size() == 1) { return predicates.get(0); }
             return value -> {
-                BigDecimal bigDecimalValue;
-                if (value instanceof String) {
-                    bigDecimalValue = new BigDecimal((String) value);
-                } else {
-                    char[] chars = new char[value.length()];
-                    for (int i = 0; i < chars.length; i++) {
-                        chars[i] = value.charAt(i);
+                for (Predicate<CharSequence> predicate : predicates) {
+                    if (!predicate.test(value)) {
+                        return false;
                     }
-                    bigDecimalValue = new BigDecimal(chars);
                 }
-                return predicate.test(bigDecimalValue);
+                return true;
             };
         }
 
@@ -265,21 +260,27 @@ public class DomainUtils {
 
         @Override
         public Predicate<CharSequence> initPredicateForNumericText() {
-            Set<BigDecimal> values = Arrays.stream(numberTextSet)
-                    .map(BigDecimal::new)
-                    .collect(Collectors.toSet());
+            Reference[] refs = Arrays.stream(numberTextSet)
+                    .map(NumericTextScanner::compile)
+                    .sorted()
+                    .toArray(Reference[]::new);
             return value -> {
-                BigDecimal bigDecimal;
-                if (value instanceof String) {
-                    bigDecimal = new BigDecimal((String) value);
-                } else {
-                    char[] chars = new char[value.length()];
-                    for (int i = 0; i < chars.length; i++) {
-                        chars[i] = value.charAt(i);
+                int low = 0;
+                int high = refs.length - 1;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    int result = NumericTextScanner.compare(value, refs[mid]);
+                    if (result == NumericTextScanner.NOT_NUMERIC) {
+                        return false;
+                    } else if (result > 0) {
+                        low = mid + 1;
+                    } else if (result < 0) {
+                        high = mid - 1;
+                    } else {
+                        return true;
                     }
-                    bigDecimal = new BigDecimal(chars);
                 }
-                return values.contains(bigDecimal);
+                return false;
             };
         }
 
@@ -289,7 +290,7 @@ public class DomainUtils {
             List<T> refs = Arrays.stream(numberTextSet)
                     .map(text -> NumericTextParser.parse(type, text))
                     .sorted()
-                    .collect(Collectors.toCollection(LinkedList::new));
+                    .collect(Collectors.toCollection(ArrayList::new));
             return value -> (Collections.binarySearch(refs, value) >= 0);
         }
 
@@ -387,28 +388,29 @@ public class DomainUtils {
         @Override
         public Predicate<CharSequence> initPredicateForNumericText() {
             if (isNegativeInfinity && isPositiveInfinity) { return null; }
-            BigDecimal min = isNegativeInfinity ? null : new BigDecimal(minText);
-            BigDecimal max = isPositiveInfinity ? null : new BigDecimal(maxText);
+            Reference min = isNegativeInfinity ? null : NumericTextScanner.compile(minText);
+            Reference max = isPositiveInfinity ? null : NumericTextScanner.compile(maxText);
             boolean includeMin = this.includeMin;
             boolean includeMax = this.includeMax;
             if (isNegativeInfinity) {
                 return value -> {
-                    BigDecimal bigDecimal = parseNumericTextToBigDecimal(value);
-                    int right = bigDecimal.compareTo(max);
+                    int right = NumericTextScanner.compare(value, max);
+                    if (right == NumericTextScanner.NOT_NUMERIC) { return false; }
                     return (right < 0) || (includeMax && right == 0);
                 };
             } else if (isPositiveInfinity) {
                 return value -> {
-                    BigDecimal bigDecimal = parseNumericTextToBigDecimal(value);
-                    int left = bigDecimal.compareTo(min);
+                    int left = NumericTextScanner.compare(value, min);
+                    if (left == NumericTextScanner.NOT_NUMERIC) { return false; }
                     return (left > 0) || (includeMin && left == 0);
                 };
             } else {
                 return value -> {
-                    BigDecimal bigDecimalValue = parseNumericTextToBigDecimal(value);
-                    int left = bigDecimalValue.compareTo(min);
-                    int right = bigDecimalValue.compareTo(max);
-                    return ((left > 0) || (includeMin && left == 0)) && (right < 0) || (includeMax && right == 0);
+                    int left = NumericTextScanner.compare(value, min);
+                    if (left == NumericTextScanner.NOT_NUMERIC) { return false; }
+                    if ((left < 0) || (!includeMin && left == 0)) { return false; }
+                    int right = NumericTextScanner.compare(value, max);
+                    return (right < 0) || (includeMax && right == 0);
                 };
             }
         }
@@ -416,25 +418,28 @@ public class DomainUtils {
         @Override
         public <T extends Number & Comparable<T>> Predicate<T> initPredicateForComparableNumber(Class<T> type) {
             if (isNegativeInfinity && isPositiveInfinity) { return null; }
-            T min = isNegativeInfinity ? null : NumericTextParser.parse(type, minText);
-            T max = isPositiveInfinity ? null : NumericTextParser.parse(type, maxText);
+            ToIntFunction<T> min = isNegativeInfinity ? null
+                    : CriterionFactoryForComparableNumber.initComparator(NumericTextParser.parse(type, minText));
+            ToIntFunction<T> max = isPositiveInfinity ? null
+                    : CriterionFactoryForComparableNumber.initComparator(NumericTextParser.parse(type, maxText));
             boolean includeMin = this.includeMin;
             boolean includeMax = this.includeMax;
             if (isNegativeInfinity) {
                 return value -> {
-                    int right = value.compareTo(max);
+                    int right = max.applyAsInt(value);
                     return (right < 0) || (includeMax && right == 0);
                 };
             } else if (isPositiveInfinity) {
                 return value -> {
-                    int left = value.compareTo(min);
+                    int left = min.applyAsInt(value);
                     return (left > 0) || (includeMin && left == 0);
                 };
             } else {
                 return value -> {
-                    int left = value.compareTo(min);
-                    int right = value.compareTo(max);
-                    return ((left > 0) || (includeMin && left == 0)) && (right < 0) || (includeMax && right == 0);
+                    int left = min.applyAsInt(value);
+                    if ((left < 0) || (!includeMin && left == 0)) { return false; }
+                    int right = max.applyAsInt(value);
+                    return (right < 0) || (includeMax && right == 0);
                 };
             }
         }
@@ -16,6 +16,7 @@
 package com.github.wautsns.simplevalidator.constraint.number.domain;
 
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForByte;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.RangeCriterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForByte;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactoryForByte;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
@@ -50,8 +51,10 @@ public class VDomainCriterionFactoryForByte extends CriterionFactoryForByte<VDom
      * @return criterion
      */
     protected static CriterionForByte produce(VDomain constraint) {
-        BytePredicate predicate = DomainUtils.init(constraint.value()).initPredicateForByte();
+        DomainUtils.Domain domain = DomainUtils.init(constraint.value());
+        BytePredicate predicate = domain.initPredicateForByte();
         if (predicate == null) { return null; }
+        if (domain.isRange()) { return new RangeCriterionForByte(predicate); }
         return new CriterionForByte() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(byte value) {
@@ -60,4 +63,31 @@ public class VDomainCriterionFactoryForByte extends CriterionFactoryForByte<VDom
         };
     }
 
+    /** Range criterion for {@code byte} value. */
+    private static class RangeCriterionForByte extends CriterionForByte implements RangeCriterion {
+
+        /** Predicate. */
+        private final BytePredicate predicate;
+
+        /**
+         * Construct a range criterion.
+         *
+         * @param predicate predicate(the domain is a range)
+         */
+        private RangeCriterionForByte(BytePredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(byte value) {
+            return predicate.test(value) ? null : new ValidationFailure(value);
+        }
+
+        @Override
+        public boolean covers(long min, long max) {
+            return predicate.test((byte) min) && predicate.test((byte) max);
+        }
+
+    }
+
 }
@@ -16,6 +16,7 @@
 package com.github.wautsns.simplevalidator.constraint.number.domain;
 
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForDouble;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.RangeCriterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForDouble;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactoryForDouble;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
@@ -51,8 +52,10 @@ public class VDomainCriterionFactoryForDouble extends CriterionFactoryForDouble<
      * @return criterion
      */
     protected static CriterionForDouble produce(VDomain constraint) {
-        DoublePredicate predicate = DomainUtils.init(constraint.value()).initPredicateForDouble();
+        DomainUtils.Domain domain = DomainUtils.init(constraint.value());
+        DoublePredicate predicate = domain.initPredicateForDouble();
         if (predicate == null) { return null; }
+        if (domain.isRange()) { return new RangeCriterionForDouble(predicate); }
         return new CriterionForDouble() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(double value) {
@@ -61,4 +64,31 @@ public class VDomainCriterionFactoryForDouble extends CriterionFactoryForDouble<
         };
     }
 
+    /** Range criterion for {@code double} value. */
+    private static class RangeCriterionForDouble extends CriterionForDouble implements RangeCriterion {
+
+        /** Predicate. */
+        private final DoublePredicate predicate;
+
+        /**
+         * Construct a range criterion.
+         *
+         * @param predicate predicate(the domain is a range)
+         */
+        private RangeCriterionForDouble(DoublePredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(double value) {
+            return predicate.test(value) ? null : new ValidationFailure(value);
+        }
+
+        @Override
+        public boolean covers(double min, double max) {
+            return predicate.test(min) && predicate.test(max);
+        }
+
+    }
+
 }
@@ -16,6 +16,7 @@
 package com.github.wautsns.simplevalidator.constraint.number.domain;
 
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForFloat;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.RangeCriterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForFloat;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactoryForFloat;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
@@ -50,8 +51,10 @@ public class VDomainCriterionFactoryForFloat extends CriterionFactoryForFloat<VD
      * @return criterion
      */
     protected static CriterionForFloat produce(VDomain constraint) {
-        FloatPredicate predicate = DomainUtils.init(constraint.value()).initPredicateForFloat();
+        DomainUtils.Domain domain = DomainUtils.init(constraint.value());
+        FloatPredicate predicate = domain.initPredicateForFloat();
         if (predicate == null) { return null; }
+        if (domain.isRange()) { return new RangeCriterionForFloat(predicate); }
         return new CriterionForFloat() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(float value) {
@@ -60,4 +63,31 @@ public class VDomainCriterionFactoryForFloat extends CriterionFactoryForFloat<VD
         };
     }
 
+    /** Range criterion for {@code float} value. */
+    private static class RangeCriterionForFloat extends CriterionForFloat implements RangeCriterion {
+
+        /** Predicate. */
+        private final FloatPredicate predicate;
+
+        /**
+         * Construct a range criterion.
+         *
+         * @param predicate predicate(the domain is a range)
+         */
+        private RangeCriterionForFloat(FloatPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(float value) {
+            return predicate.test(value) ? null : new ValidationFailure(value);
+        }
+
+        @Override
+        public boolean covers(double min, double max) {
+            return predicate.test((float) min) && predicate.test((float) max);
+        }
+
+    }
+
 }
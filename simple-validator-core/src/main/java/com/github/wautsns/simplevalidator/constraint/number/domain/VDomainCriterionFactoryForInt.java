@@ -16,6 +16,7 @@
 package com.github.wautsns.simplevalidator.constraint.number.domain;
 
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForInt;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.RangeCriterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForInt;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactoryForInt;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
@@ -51,8 +52,10 @@ public class VDomainCriterionFactoryForInt extends CriterionFactoryForInt<VDomai
      * @return criterion
      */
     protected static CriterionForInt produce(VDomain constraint) {
-        IntPredicate predicate = DomainUtils.init(constraint.value()).initPredicateForInt();
+        DomainUtils.Domain domain = DomainUtils.init(constraint.value());
+        IntPredicate predicate = domain.initPredicateForInt();
         if (predicate == null) { return null; }
+        if (domain.isRange()) { return new RangeCriterionForInt(predicate); }
         return new CriterionForInt() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(int value) {
@@ -61,4 +64,31 @@ public class VDomainCriterionFactoryForInt extends CriterionFactoryForInt<VDomai
         };
     }
 
+    /** Range criterion for {@code int} value. */
+    private static class RangeCriterionForInt extends CriterionForInt implements RangeCriterion {
+
+        /** Predicate. */
+        private final IntPredicate predicate;
+
+        /**
+         * Construct a range criterion.
+         *
+         * @param predicate predicate(the domain is a range)
+         */
+        private RangeCriterionForInt(IntPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(int value) {
+            return predicate.test(value) ? null : new ValidationFailure(value);
+        }
+
+        @Override
+        public boolean covers(long min, long max) {
+            return predicate.test((int) min) && predicate.test((int) max);
+        }
+
+    }
+
 }
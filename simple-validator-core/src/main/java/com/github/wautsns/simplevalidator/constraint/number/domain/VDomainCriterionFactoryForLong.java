@@ -16,6 +16,7 @@
 package com.github.wautsns.simplevalidator.constraint.number.domain;
 
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForLong;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.RangeCriterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForLong;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactoryForLong;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
@@ -51,8 +52,10 @@ public class VDomainCriterionFactoryForLong extends CriterionFactoryForLong<VDom
      * @return criterion
      */
     protected static CriterionForLong produce(VDomain constraint) {
-        LongPredicate predicate = DomainUtils.init(constraint.value()).initPredicateForLong();
+        DomainUtils.Domain domain = DomainUtils.init(constraint.value());
+        LongPredicate predicate = domain.initPredicateForLong();
         if (predicate == null) { return null; }
+        if (domain.isRange()) { return new RangeCriterionForLong(predicate); }
         return new CriterionForLong() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(long value) {
@@ -61,4 +64,31 @@ public class VDomainCriterionFactoryForLong extends CriterionFactoryForLong<VDom
         };
     }
 
+    /** Range criterion for {@code long} value. */
+    private static class RangeCriterionForLong extends CriterionForLong implements RangeCriterion {
+
+        /** Predicate. */
+        private final LongPredicate predicate;
+
+        /**
+         * Construct a range criterion.
+         *
+         * @param predicate predicate(the domain is a range)
+         */
+        private RangeCriterionForLong(LongPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(long value) {
+            return predicate.test(value) ? null : new ValidationFailure(value);
+        }
+
+        @Override
+        public boolean covers(long min, long max) {
+            return predicate.test(min) && predicate.test(max);
+        }
+
+    }
+
 }
@@ -13,6 +13,7 @@
 package com.github.wautsns.simplevalidator.constraint.number.domain;
 
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForShort;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.RangeCriterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForShort;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactoryForShort;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
@@ -47,8 +48,10 @@ public class VDomainCriterionFactoryForShort extends CriterionFactoryForShort<VD
      * @return criterion
      */
     protected static CriterionForShort produce(VDomain constraint) {
-        ShortPredicate predicate = DomainUtils.init(constraint.value()).initPredicateForShort();
+        DomainUtils.Domain domain = DomainUtils.init(constraint.value());
+        ShortPredicate predicate = domain.initPredicateForShort();
         if (predicate == null) { return null; }
+        if (domain.isRange()) { return new RangeCriterionForShort(predicate); }
         return new CriterionForShort() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(short value) {
@@ -57,4 +60,31 @@ public class VDomainCriterionFactoryForShort extends CriterionFactoryForShort<VD
         };
     }
 
+    /** Range criterion for {@code short} value. */
+    private static class RangeCriterionForShort extends CriterionForShort implements RangeCriterion {
+
+        /** Predicate. */
+        private final ShortPredicate predicate;
+
+        /**
+         * Construct a range criterion.
+         *
+         * @param predicate predicate(the domain is a range)
+         */
+        private RangeCriterionForShort(ShortPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(short value) {
+            return predicate.test(value) ? null : new ValidationFailure(value);
+        }
+
+        @Override
+        public boolean covers(long min, long max) {
+            return predicate.test((short) min) && predicate.test((short) max);
+        }
+
+    }
+
 }
@@ -13,11 +13,14 @@
 package com.github.wautsns.simplevalidator.constraint.text.numerictext;
 
 import com.github.wautsns.simplevalidator.constraint.AConstraint;
-import com.github.wautsns.simplevalidator.constraint.text.pattern.VPattern;
+import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactory;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
 import static java.lang.annotation.ElementType.FIELD;
@@ -34,7 +37,6 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Retention(RUNTIME)
 @Target({ FIELD, METHOD, PARAMETER, ANNOTATION_TYPE, TYPE_USE })
 @AConstraint
-@VPattern(regex = "[-+]?\\d+(?:[.]\\d+)?")
 public @interface VNumericText {
 
     /**
@@ -51,4 +53,11 @@ public @interface VNumericText {
      */
     int order() default 0;
 
+    // #################### extra #######################################################
+
+    /** Built-in criterion factories. */
+    List<CriterionFactory<VNumericText, ?, ?>> CRITERION_FACTORIES = new LinkedList<>(Collections.singletonList(
+            VNumericTextCriterionFactoryForCharSequence.INSTANCE
+    ));
+
 }
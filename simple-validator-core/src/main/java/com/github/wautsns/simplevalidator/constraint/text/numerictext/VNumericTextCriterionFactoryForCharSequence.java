@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.constraint.text.numerictext;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.factory.special.CriterionFactoryForCharSequence;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
+import com.github.wautsns.simplevalidator.util.valuehandle.NumericTextScanner;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * VNumericText criterion factory for {@code CharSequence} value.
+ *
+ * @author wautsns
+ * @since Mar 11, 2020
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VNumericTextCriterionFactoryForCharSequence extends CriterionFactoryForCharSequence<VNumericText> {
+
+    /** {@code VNumericTextCriterionFactoryForCharSequence} instance. */
+    public static final VNumericTextCriterionFactoryForCharSequence INSTANCE = new VNumericTextCriterionFactoryForCharSequence();
+
+    @Override
+    public void process(ConstrainedNode node, VNumericText constraint, CriteriaForNonPrimitive<CharSequence> wip) {
+        wip.add(CRITERION);
+    }
+
+    // #################### criterion ###################################################
+
+    /** Criterion. */
+    private static final CriterionForNonPrimitive<CharSequence> CRITERION = new CriterionForNonPrimitive<CharSequence>() {
+        @Override
+        protected ValidationFailure testWithoutEnhancingFailure(CharSequence value) {
+            return NumericTextScanner.isPlainNumericText(value) ? null : new ValidationFailure(value);
+        }
+    };
+
+}
@@ -14,8 +14,8 @@ package com.github.wautsns.simplevalidator.constraint.time.past;
 
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForNonPrimitive;
-import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.TypeLikeUtilityCriterionCache;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.time.CriterionFactoryForTimeLike;
+import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.time.TimeLikeReference;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.time.TimeLikeUtility;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
@@ -41,56 +41,22 @@ public class VPastCriterionFactoryForTimeLike extends CriterionFactoryForTimeLik
     // #################### criterion ###################################################
 
     protected static <T> CriterionForNonPrimitive<T> initCriterion(TimeLikeUtility<T> utility, VPast constraint) {
-        long year = constraint.years();
-        long month = constraint.months();
         long milliseconds = constraint.milliseconds() + TimeLikeUtility.toMilliseconds(
                 constraint.weeks(), constraint.days(), constraint.hours(), constraint.minutes(), constraint.seconds());
-        if ((year | month) != 0) {
-            return initWithYearMonthMillisecondsOffset(utility, year, month, milliseconds);
-        } else if (milliseconds == 0) {
-            return initWithMillisecondsOffset(utility, milliseconds);
-        } else {
-            return CACHE_NO_OFFSET.get(utility);
-        }
-    }
-
-    private static final TypeLikeUtilityCriterionCache<TimeLikeUtility<?>> CACHE_NO_OFFSET =
-            new TypeLikeUtilityCriterionCache<>(VPastCriterionFactoryForTimeLike::initWithNoOffset);
-
-    private static <T> CriterionForNonPrimitive<T> initWithNoOffset(TimeLikeUtility<T> utility) {
+        TimeLikeReference<T> reference = TimeLikeReference.of(
+                utility, constraint.years(), constraint.months(), milliseconds);
         return new CriterionForNonPrimitive<T>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(T value) {
-                T ref = utility.now();
+                T ref = reference.get();
                 return utility.isBefore(value, ref) ? null : wrong(utility, value, ref);
             }
         };
     }
 
-    private static <T> CriterionForNonPrimitive<T> initWithMillisecondsOffset(
-            TimeLikeUtility<T> utility, long milliseconds) {
-        return new CriterionForNonPrimitive<T>() {
-            @Override
-            protected ValidationFailure testWithoutEnhancingFailure(T value) {
-                T ref = utility.now(milliseconds);
-                return utility.isBefore(value, ref) ? null : wrong(utility, value, ref);
-            }
-        };
-    }
-
-    private static <T> CriterionForNonPrimitive<T> initWithYearMonthMillisecondsOffset(
-            TimeLikeUtility<T> utility, long years, long months, long milliseconds) {
-        return new CriterionForNonPrimitive<T>() {
-            @Override
-            protected ValidationFailure testWithoutEnhancingFailure(T time) {
-                T ref = utility.now(years, months, milliseconds);
-                return utility.isBefore(time, ref) ? null : wrong(utility, time, ref);
-            }
-        };
-    }
-
     protected static <T> ValidationFailure wrong(TimeLikeUtility<T> utility, T value, T ref) {
-        return utility.fail(value).put(VPast.REF.get(utility), ref);
+        // the shared reference time may be mutable, copy it before it is kept by the failure
+        return utility.fail(value).put(VPast.REF.get(utility), utility.copy(ref));
     }
 
 }
@@ -23,6 +23,7 @@ import com.github.wautsns.simplevalidator.kernal.criterion.criteria.Criteria;
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.basic.CriterionFactory;
 import com.github.wautsns.simplevalidator.kernal.criterion.util.CriterionUtils;
 import com.github.wautsns.simplevalidator.kernal.extractor.value.basic.ValueExtractor;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.SharedValueExtractors;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
 import com.github.wautsns.simplevalidator.util.common.CollectionUtils;
@@ -159,6 +160,8 @@ public class Constraint<A extends Annotation> {
     /**
      * Require the value extractor suitable for the specified type.
      *
+     * <p>Value extractors of the constraint take precedence over the {@link SharedValueExtractors shared ones}.
+     *
      * @param type type
      * @return the value extractor suitable for the specified type
      * @throws ConstraintAnalysisException if no value extractor applies to the specified type
@@ -177,6 +180,8 @@ public class Constraint<A extends Annotation> {
                     .allMatch(ref::equals);
             if (allMatch) { return ref; }
         }
+        applicableValueExtractor = SharedValueExtractors.find(type, this::appliesTo);
+        if (applicableValueExtractor != null) { return applicableValueExtractor; }
         throw new ConstraintAnalysisException("There is no applicable value extractor for type[%s]", type);
     }
 
@@ -331,12 +336,14 @@ public class Constraint<A extends Annotation> {
                 Criteria tmp = CriterionUtils.newCriteria(node.getType());
                 processWithoutVariables(node, tmp);
                 Criterion criterion = tmp.simplify();
-                if (criterion == null) { return; }
+                if (criterion == null || CriterionUtils.isTheTruth(criterion)) { return; }
                 VariableValueMap vvm = new VariableValueMap();
                 vvm.put(variableValueMap);
                 vvm.put(ValidationFailure.Variables.LOCATION, node.getLocation());
-                criterion.addValidationFailureEnhancer(failure -> failure.setMessageTemplate(message).put(vvm));
-                wip.add(criterion);
+                // the simplified criterion may be shared by other nodes, so enhance the criteria instead
+                Criterion criteria = (Criterion) tmp;
+                criteria.addValidationFailureEnhancer(failure -> failure.setMessageTemplate(message).put(vvm));
+                wip.add(criteria);
             } else if (metadata.isOnlyUsedToCombineOtherConstraints()) {
                 combinedConstraints.forEach(constraint -> constraint.criterionProcessor.process(node, wip));
             } else {
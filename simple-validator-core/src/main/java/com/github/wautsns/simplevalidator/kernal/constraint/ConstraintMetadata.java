@@ -25,6 +25,7 @@ import com.github.wautsns.simplevalidator.util.common.ReflectionUtils;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
@@ -64,6 +65,9 @@ public class ConstraintMetadata<A extends Annotation> {
     private final Class<A> constraintType;
     /** Order(only used to control the execution order of <strong>combined</strong> constraints). */
     private final int order;
+    /** Whether the constraint is a precheck. */
+    @Setter
+    private volatile boolean precheck;
     /** Supported criterion factories. */
     private final List<CriterionFactory<A, ?, ?>> criterionFactories;
     /** Supported value extractors. */
@@ -140,6 +144,7 @@ public class ConstraintMetadata<A extends Annotation> {
         AConstraint aConstraint = requireAConstraint(constraintType);
         this.constraintType = constraintType;
         this.order = aConstraint.order();
+        this.precheck = aConstraint.precheck();
         this.criterionFactories = getCriterionFactories(constraintType);
         this.valueExtractors = getValueExtractors(constraintType);
         this.fixedCombinedConstraints = Constraint.filterConstraints(constraintType.getDeclaredAnnotations());
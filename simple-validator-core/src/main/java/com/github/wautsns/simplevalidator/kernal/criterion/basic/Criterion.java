@@ -46,6 +46,15 @@ public abstract class Criterion {
         validationFailureEnhancers.add(validationFailureEnhancer);
     }
 
+    /**
+     * Return whether the criterion has validation failure enhancers.
+     *
+     * @return {@code true} if the criterion has validation failure enhancers, otherwise {@code false}
+     */
+    public final boolean hasValidationFailureEnhancers() {
+        return validationFailureEnhancers != null;
+    }
+
     /**
      * Enhance validation failure.
      *
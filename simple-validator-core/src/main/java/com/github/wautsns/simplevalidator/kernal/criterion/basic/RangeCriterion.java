@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.basic;
+
+/**
+ * Range criterion.
+ *
+ * <p>A range criterion only requires the value to be in a range, so that all values between the min and max value pass
+ * if the min and max value pass. Criterion wrappers for containers can take advantage of it to test a batch of values
+ * by their min and max value only.
+ *
+ * @author wautsns
+ * @since Jul 24, 2020
+ */
+public interface RangeCriterion {
+
+    /**
+     * Return whether all integral values in {@code [min, max]} pass the criterion.
+     *
+     * @param min min value
+     * @param max max value
+     * @return {@code true} if all values pass, otherwise {@code false}
+     */
+    default boolean covers(long min, long max) {
+        return false;
+    }
+
+    /**
+     * Return whether all floating-point values in {@code [min, max]} pass the criterion.
+     *
+     * @param min min value(not {@code NaN})
+     * @param max max value(not {@code NaN})
+     * @return {@code true} if all values pass, otherwise {@code false}
+     */
+    default boolean covers(double min, double max) {
+        return false;
+    }
+
+}
@@ -64,7 +64,7 @@ public interface Criteria<C extends Criterion> {
         List<C> originalCriteria = getOriginalCriteria();
         for (int index = 0; index < originalCriteria.size(); ) {
             C criterion = originalCriteria.get(index);
-            if (criterion instanceof Criteria) {
+            if (criterion instanceof Criteria && !criterion.hasValidationFailureEnhancers()) {
                 Criteria<C> criteria = (Criteria<C>) criterion;
                 originalCriteria.remove(index);
                 originalCriteria.addAll(index, criteria.getOriginalCriteria());
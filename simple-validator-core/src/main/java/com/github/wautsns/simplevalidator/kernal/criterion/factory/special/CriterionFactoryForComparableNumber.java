@@ -19,6 +19,9 @@ import com.github.wautsns.simplevalidator.util.common.TypeUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.ToIntFunction;
 
 /**
  * Criterion factory for {@code Number & Comparable} value.
@@ -35,4 +38,67 @@ public abstract class CriterionFactoryForComparableNumber<A extends Annotation>
                 && super.applyTo(type, constraint);
     }
 
+    // #################### utils #######################################################
+
+    /**
+     * Initialize a comparator which compares value with the specified bound.
+     *
+     * <p>The bound will be unboxed once. Values of {@code Integer}, {@code Long}, {@code Short}, {@code Byte},
+     * {@code Double}, {@code Float} will be compared as primitive values, values of {@code BigInteger} will be
+     * compared as {@code long} values if they fit in a {@code long}.
+     *
+     * @param bound bound
+     * @param <T> type of value
+     * @return a comparator which returns a negative integer, zero, or a positive integer as the value is less than,
+     *         equal to, or greater than the bound
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Number & Comparable<T>> ToIntFunction<T> initComparator(T bound) {
+        Number tmp = bound;
+        ToIntFunction<? extends Number> comparator;
+        if (tmp instanceof Integer || tmp instanceof Long || tmp instanceof Short || tmp instanceof Byte) {
+            long longBound = tmp.longValue();
+            comparator = value -> Long.compare(value.longValue(), longBound);
+        } else if (tmp instanceof Double || tmp instanceof Float) {
+            double doubleBound = tmp.doubleValue();
+            comparator = value -> Double.compare(value.doubleValue(), doubleBound);
+        } else if (tmp instanceof BigInteger) {
+            comparator = initComparator((BigInteger) tmp);
+        } else if (tmp instanceof BigDecimal) {
+            comparator = initComparator((BigDecimal) tmp);
+        } else {
+            return value -> value.compareTo(bound);
+        }
+        return (ToIntFunction<T>) comparator;
+    }
+
+    /**
+     * Initialize a comparator which compares {@code BigInteger} value with the specified bound.
+     *
+     * @param bound bound
+     * @return comparator
+     */
+    private static ToIntFunction<BigInteger> initComparator(BigInteger bound) {
+        if (bound.signum() == 0) { return BigInteger::signum; }
+        if (bound.bitLength() >= Long.SIZE) { return value -> value.compareTo(bound); }
+        long longBound = bound.longValue();
+        // the magnitude of value which does not fit in a long is greater than any long value
+        return value -> (value.bitLength() < Long.SIZE)
+                ? Long.compare(value.longValue(), longBound)
+                : value.signum();
+    }
+
+    /**
+     * Initialize a comparator which compares {@code BigDecimal} value with the specified bound.
+     *
+     * <p>{@code BigDecimal#compareTo} has compared values with compact unscaled value as {@code long} values.
+     *
+     * @param bound bound
+     * @return comparator
+     */
+    private static ToIntFunction<BigDecimal> initComparator(BigDecimal bound) {
+        if (bound.signum() == 0) { return BigDecimal::signum; }
+        return value -> value.compareTo(bound);
+    }
+
 }
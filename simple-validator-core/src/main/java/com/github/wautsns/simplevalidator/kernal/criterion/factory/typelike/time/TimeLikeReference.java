@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.time;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reference time(current time with offset) of time-like value.
+ *
+ * <p>The reference time is computed at most once per tick({@linkplain TimeLikeUtility#getResolution() resolution}) of
+ * the {@linkplain TimeLikeUtility#getClock() clock}, and is shared by all criteria with the same utility and offset.
+ * The shared instance is handed out without copying, so mutable reference time(eg. {@code Date}, {@code Calendar})
+ * must not be modified, and should be {@linkplain TimeLikeUtility#copy(Object) copied} before it is kept(eg. put into
+ * failures).
+ *
+ * @param <T> type of time-like value
+ * @author wautsns
+ * @since Mar 11, 2020
+ */
+public final class TimeLikeReference<T> {
+
+    /** Time-like utility. */
+    private final TimeLikeUtility<T> utility;
+    /** Years offset. */
+    private final long yearsOffset;
+    /** Months offset. */
+    private final long monthsOffset;
+    /** Milliseconds offset. */
+    private final long millisecondsOffset;
+    /** Snapshot of the latest tick. */
+    private volatile Snapshot<T> snapshot;
+
+    /**
+     * Get reference time associated with the specified utility and offset.
+     *
+     * @param utility time-like utility
+     * @param yearsOffset years offset
+     * @param monthsOffset months offset
+     * @param millisecondsOffset milliseconds offset
+     * @param <T> type of time-like value
+     * @return reference time associated with the specified utility and offset
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TimeLikeReference<T> of(
+            TimeLikeUtility<T> utility, long yearsOffset, long monthsOffset, long millisecondsOffset) {
+        Key key = new Key(utility, yearsOffset, monthsOffset, millisecondsOffset);
+        return (TimeLikeReference<T>) CACHE.computeIfAbsent(key, k -> new TimeLikeReference<>(
+                utility, yearsOffset, monthsOffset, millisecondsOffset));
+    }
+
+    /**
+     * Construct a reference time.
+     *
+     * @param utility time-like utility
+     * @param yearsOffset years offset
+     * @param monthsOffset months offset
+     * @param millisecondsOffset milliseconds offset
+     */
+    private TimeLikeReference(
+            TimeLikeUtility<T> utility, long yearsOffset, long monthsOffset, long millisecondsOffset) {
+        this.utility = utility;
+        this.yearsOffset = yearsOffset;
+        this.monthsOffset = monthsOffset;
+        this.millisecondsOffset = millisecondsOffset;
+    }
+
+    /**
+     * Get the reference time of the current tick.
+     *
+     * @return the reference time of the current tick(shared, must not be modified)
+     */
+    public T get() {
+        Clock clock = TimeLikeUtility.getClock();
+        long resolution = TimeLikeUtility.getResolution();
+        long tick = Math.floorDiv(clock.millis(), resolution);
+        Snapshot<T> snapshot = this.snapshot;
+        if (snapshot != null && snapshot.tick == tick
+                && snapshot.resolution == resolution && snapshot.clock == clock) {
+            return snapshot.value;
+        }
+        T value = compute();
+        this.snapshot = new Snapshot<>(clock, resolution, tick, value);
+        return value;
+    }
+
+    /**
+     * Compute the reference time.
+     *
+     * @return the reference time
+     */
+    private T compute() {
+        if ((yearsOffset | monthsOffset) != 0) {
+            return utility.now(yearsOffset, monthsOffset, millisecondsOffset);
+        } else if (millisecondsOffset != 0) {
+            return utility.now(millisecondsOffset);
+        } else {
+            return utility.now();
+        }
+    }
+
+    // #################### internal utils ################################################
+
+    /** Reference time cache. */
+    private static final Map<Key, TimeLikeReference<?>> CACHE = new ConcurrentHashMap<>();
+
+    /** Key of the reference time cache. */
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+
+        /** Time-like utility. */
+        private final TimeLikeUtility<?> utility;
+        /** Years offset. */
+        private final long yearsOffset;
+        /** Months offset. */
+        private final long monthsOffset;
+        /** Milliseconds offset. */
+        private final long millisecondsOffset;
+
+    }
+
+    /** Snapshot of the reference time. */
+    @RequiredArgsConstructor
+    private static class Snapshot<T> {
+
+        /** Clock. */
+        private final Clock clock;
+        /** Resolution. */
+        private final long resolution;
+        /** Tick. */
+        private final long tick;
+        /** Reference time. */
+        private final T value;
+
+    }
+
+}
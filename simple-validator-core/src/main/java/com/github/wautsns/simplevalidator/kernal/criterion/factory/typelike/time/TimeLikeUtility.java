@@ -18,7 +18,9 @@ package com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.tim
 import com.github.wautsns.simplevalidator.kernal.criterion.factory.typelike.TypeLikeUtility;
 import com.github.wautsns.templatemessage.formatter.Formatter;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Objects;
 
 /**
  * Time-like utility.
@@ -70,7 +72,20 @@ public abstract class TimeLikeUtility<T> extends TypeLikeUtility<T> {
      * @return current time with offset
      */
     public T now(long yearsOffset, long monthsOffset, long millisecondsOffset) {
-        return now(yearsOffset * 12, millisecondsOffset);
+        return now(yearsOffset * 12 + monthsOffset, millisecondsOffset);
+    }
+
+    /**
+     * Return a copy of time which can be handed out safely.
+     *
+     * <p>Immutable time is returned directly, mutable time(eg. {@code Date}, {@code Calendar}) should be cloned.
+     *
+     * @param time time
+     * @return a copy of time, or the time itself if it is immutable
+     * @see TimeLikeReference
+     */
+    public T copy(T time) {
+        return time;
     }
 
     /**
@@ -166,6 +181,54 @@ public abstract class TimeLikeUtility<T> extends TypeLikeUtility<T> {
         return compare(timeA, timeB) > 0;
     }
 
+    // #################### clock #######################################################
+
+    /** Clock of the current time. */
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    /** Resolution(milliseconds) of the cached reference time. */
+    private static volatile long resolution = 1;
+
+    /**
+     * Get clock of the current time.
+     *
+     * @return clock of the current time
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Set clock of the current time.
+     *
+     * <p>A fixed clock can be used to validate a batch of values against the same reference time.
+     *
+     * @param clock clock of the current time
+     */
+    public static void setClock(Clock clock) {
+        TimeLikeUtility.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Get resolution(milliseconds) of the cached reference time.
+     *
+     * @return resolution(milliseconds) of the cached reference time
+     * @see TimeLikeReference
+     */
+    public static long getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Set resolution(milliseconds) of the cached reference time, default is {@code 1}.
+     *
+     * @param resolution resolution(milliseconds) of the cached reference time, it should be positive
+     * @see TimeLikeReference
+     */
+    public static void setResolution(long resolution) {
+        if (resolution <= 0) { throw new IllegalArgumentException("Resolution should be positive: " + resolution); }
+        TimeLikeUtility.resolution = resolution;
+    }
+
     // #################### utils #######################################################
 
     /**
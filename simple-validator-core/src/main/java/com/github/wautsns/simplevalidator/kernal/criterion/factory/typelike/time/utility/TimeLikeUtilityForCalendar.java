@@ -21,7 +21,9 @@ import com.github.wautsns.templatemessage.formatter.Formatter;
 
 import java.lang.reflect.Type;
 import java.time.Duration;
+import java.time.ZoneId;
 import java.util.Calendar;
+import java.util.TimeZone;
 
 /**
  * Time-like utility for {@code Calendar} value.
@@ -50,17 +52,22 @@ public class TimeLikeUtilityForCalendar extends TimeLikeUtility<Calendar> {
 
     @Override
     public Calendar now() {
-        return Calendar.getInstance();
+        return getInstance(TimeLikeUtility.getClock().millis());
     }
 
     @Override
     public Calendar now(long millisecondsOffset) {
-        return getInstance(System.currentTimeMillis() + millisecondsOffset);
+        return getInstance(TimeLikeUtility.getClock().millis() + millisecondsOffset);
     }
 
     @Override
     public Calendar now(long monthsOffset, long millisecondsOffset) {
-        return getInstance(System.currentTimeMillis() + millisecondsOffset, monthsOffset);
+        return getInstance(TimeLikeUtility.getClock().millis() + millisecondsOffset, monthsOffset);
+    }
+
+    @Override
+    public Calendar copy(Calendar time) {
+        return (Calendar) time.clone();
     }
 
     @Override
@@ -85,7 +92,7 @@ public class TimeLikeUtilityForCalendar extends TimeLikeUtility<Calendar> {
      * @return {@code Calendar} instance
      */
     public Calendar getInstance(long timestamp) {
-        Calendar instance = Calendar.getInstance();
+        Calendar instance = Calendar.getInstance(getTimeZone(TimeLikeUtility.getClock().getZone()));
         instance.setTimeInMillis(timestamp);
         return instance;
     }
@@ -99,14 +106,9 @@ public class TimeLikeUtilityForCalendar extends TimeLikeUtility<Calendar> {
      */
     public Calendar getInstance(long timestamp, long monthsOffset) {
         Calendar instance = getInstance(timestamp);
-        long month = instance.get(Calendar.MONTH) + monthsOffset;
-        if (month > 12) {
-            long year = instance.get(Calendar.YEAR) + month / 12;
-            instance.set(Calendar.YEAR, (int) year);
-            month %= 12;
-            if (month == 0) { return instance; }
-        }
-        instance.set(Calendar.MONTH, (int) month);
+        instance.add(Calendar.MONTH, Math.toIntExact(monthsOffset));
+        // recompute the time eagerly, otherwise it will be recomputed by every reader(not thread-safe)
+        instance.getTimeInMillis();
         return instance;
     }
 
@@ -120,4 +122,46 @@ public class TimeLikeUtilityForCalendar extends TimeLikeUtility<Calendar> {
         return timeA.compareTo(timeB);
     }
 
+    // #################### internal utils ##############################################
+
+    /** Time zone of the latest zone id. */
+    private static volatile ZonedTimeZone zonedTimeZone = new ZonedTimeZone(TimeLikeUtility.getClock().getZone());
+
+    /**
+     * Get time zone of the zone id.
+     *
+     * <p>The time zone of the latest zone id is cached, since the zone of clock is rarely changed. The time zone is
+     * shared, and {@code Calendar} clones it only when the calendar is cloned.
+     *
+     * @param zoneId zone id
+     * @return time zone of the zone id
+     */
+    private static TimeZone getTimeZone(ZoneId zoneId) {
+        ZonedTimeZone zonedTimeZone = TimeLikeUtilityForCalendar.zonedTimeZone;
+        if (!zonedTimeZone.zoneId.equals(zoneId)) {
+            TimeLikeUtilityForCalendar.zonedTimeZone = zonedTimeZone = new ZonedTimeZone(zoneId);
+        }
+        return zonedTimeZone.timeZone;
+    }
+
+    /** Time zone with its zone id. */
+    private static class ZonedTimeZone {
+
+        /** Zone id. */
+        private final ZoneId zoneId;
+        /** Time zone. */
+        private final TimeZone timeZone;
+
+        /**
+         * Construct a zoned time zone.
+         *
+         * @param zoneId zone id
+         */
+        private ZonedTimeZone(ZoneId zoneId) {
+            this.zoneId = zoneId;
+            this.timeZone = TimeZone.getTimeZone(zoneId);
+        }
+
+    }
+
 }
@@ -50,12 +50,12 @@ public class TimeLikeUtilityForDate extends TimeLikeUtility<Date> {
 
     @Override
     public Date now() {
-        return new Date();
+        return new Date(TimeLikeUtility.getClock().millis());
     }
 
     @Override
     public Date now(long millisecondsOffset) {
-        return new Date(System.currentTimeMillis() + millisecondsOffset);
+        return new Date(TimeLikeUtility.getClock().millis() + millisecondsOffset);
     }
 
     @Override
@@ -65,6 +65,11 @@ public class TimeLikeUtilityForDate extends TimeLikeUtility<Date> {
                 .getTime();
     }
 
+    @Override
+    public Date copy(Date time) {
+        return (Date) time.clone();
+    }
+
     @Override
     public Date plusMilliseconds(Date time, long milliseconds) {
         return new Date(time.getTime() + milliseconds);
@@ -50,12 +50,12 @@ public class TimeLikeUtilityForInstant extends TimeLikeUtility<Instant> {
 
     @Override
     public Instant now() {
-        return Instant.now();
+        return Instant.now(TimeLikeUtility.getClock());
     }
 
     @Override
     public Instant now(long millisecondsOffset) {
-        return Instant.ofEpochMilli(System.currentTimeMillis() + millisecondsOffset);
+        return Instant.ofEpochMilli(TimeLikeUtility.getClock().millis() + millisecondsOffset);
     }
 
     @Override
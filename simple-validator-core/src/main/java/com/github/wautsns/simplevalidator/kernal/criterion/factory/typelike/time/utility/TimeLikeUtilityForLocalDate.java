@@ -50,7 +50,7 @@ public class TimeLikeUtilityForLocalDate extends TimeLikeUtility<LocalDate> {
 
     @Override
     public LocalDate now() {
-        return LocalDate.now();
+        return LocalDate.now(TimeLikeUtility.getClock());
     }
 
     @Override
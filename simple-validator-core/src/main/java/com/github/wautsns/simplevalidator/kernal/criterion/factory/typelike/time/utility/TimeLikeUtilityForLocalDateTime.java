@@ -51,7 +51,7 @@ public class TimeLikeUtilityForLocalDateTime extends TimeLikeUtility<LocalDateTi
 
     @Override
     public LocalDateTime now() {
-        return LocalDateTime.now();
+        return LocalDateTime.now(TimeLikeUtility.getClock());
     }
 
     @Override
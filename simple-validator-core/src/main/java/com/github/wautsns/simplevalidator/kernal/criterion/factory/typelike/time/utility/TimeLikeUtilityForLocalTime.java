@@ -51,7 +51,7 @@ public class TimeLikeUtilityForLocalTime extends TimeLikeUtility<LocalTime> {
 
     @Override
     public LocalTime now() {
-        return LocalTime.now();
+        return LocalTime.now(TimeLikeUtility.getClock());
     }
 
     @Override
@@ -49,12 +49,12 @@ public class TimeLikeUtilityForLong extends TimeLikeUtility<Long> {
 
     @Override
     public Long now() {
-        return System.currentTimeMillis();
+        return TimeLikeUtility.getClock().millis();
     }
 
     @Override
     public Long now(long millisecondsOffset) {
-        return System.currentTimeMillis() + millisecondsOffset;
+        return TimeLikeUtility.getClock().millis() + millisecondsOffset;
     }
 
     @Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.util;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
+
+import java.util.Arrays;
+
+/**
+ * Criterion inline cache.
+ *
+ * <p>An inline cache is held by a call site(e.g. a node whose value is validated by its runtime class), and remembers
+ * the criteria of the last few runtime classes, so that the lookup is only several reference comparisons. If more than
+ * {@value #MAX_SIZE} classes are encountered, the call site is megamorphic and {@link CriterionUtils#getForType(Class)}
+ * will be used instead.
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ */
+public class CriterionInlineCache {
+
+    /** Max count of classes cached inline. */
+    public static final int MAX_SIZE = 4;
+
+    /** Cached entries, or {@code null} if the call site is megamorphic. */
+    private volatile Entries entries = Entries.EMPTY;
+
+    /**
+     * Get criterion for the specified type.
+     *
+     * @param type type
+     * @param <C> type of criterion
+     * @return criterion for the specified type
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Criterion> C getForType(Class<?> type) {
+        Entries entries = this.entries;
+        if (entries == null) { return CriterionUtils.getForType(type); }
+        Class<?>[] types = entries.types;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) { return (C) entries.criteria[i]; }
+        }
+        Criterion criterion = CriterionUtils.getForType(type);
+        // racy but harmless, an entry lost will be added again on the next miss
+        this.entries = entries.append(type, criterion);
+        return (C) criterion;
+    }
+
+    // #################### internal utils ################################################
+
+    /** Immutable cached entries. */
+    private static final class Entries {
+
+        /** Empty entries. */
+        private static final Entries EMPTY = new Entries(new Class<?>[0], new Criterion[0]);
+
+        /** Cached types. */
+        private final Class<?>[] types;
+        /** Criteria for the cached types, in the same order as the types. */
+        private final Criterion[] criteria;
+
+        private Entries(Class<?>[] types, Criterion[] criteria) {
+            this.types = types;
+            this.criteria = criteria;
+        }
+
+        /**
+         * Append an entry.
+         *
+         * @param type type
+         * @param criterion criterion for the type
+         * @return new entries, or {@code null} if the max size is exceeded
+         */
+        private Entries append(Class<?> type, Criterion criterion) {
+            int size = types.length;
+            if (size == MAX_SIZE) { return null; }
+            Class<?>[] newTypes = Arrays.copyOf(types, size + 1);
+            Criterion[] newCriteria = Arrays.copyOf(criteria, size + 1);
+            newTypes[size] = type;
+            newCriteria[size] = criterion;
+            return new Entries(newTypes, newCriteria);
+        }
+
+    }
+
+}
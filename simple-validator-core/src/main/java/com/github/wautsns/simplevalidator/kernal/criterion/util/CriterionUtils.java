@@ -36,6 +36,7 @@ import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForI
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForLong;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForNonPrimitive;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.CriteriaForShort;
+import com.github.wautsns.simplevalidator.kernal.criterion.wrapper.LazyElementCriterion;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedClass;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
@@ -47,6 +48,7 @@ import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Criterion utils.
@@ -59,6 +61,13 @@ public class CriterionUtils {
 
     /** Cache for the criterion. */
     private static final Map<ConstrainedNode, Criterion> CACHE = new ConcurrentHashMap<>(128);
+    /** Cache for the criterion of class, which is associated with the class itself. */
+    private static final ClassValue<Criterion> CACHE_FOR_TYPE = new ClassValue<Criterion>() {
+        @Override
+        protected Criterion computeValue(Class<?> type) {
+            return getForNode(ConstrainedClass.getInstance(type));
+        }
+    };
 
     /**
      * Get criterion for the specified type.
@@ -67,8 +76,9 @@ public class CriterionUtils {
      * @param <C> type of criterion
      * @return criterion for the specified type
      */
+    @SuppressWarnings("unchecked")
     public static <C extends Criterion> C getForType(Class<?> type) {
-        return getForNode(ConstrainedClass.getInstance(type));
+        return (C) CACHE_FOR_TYPE.get(type);
     }
 
     /**
@@ -113,12 +123,17 @@ public class CriterionUtils {
     /**
      * Execute the criterion with the value.
      *
+     * <p>If memo is enabled, a {@link ValidationContext} will be bound during the execution.
+     *
      * @param criterion criterion
      * @param value value
      * @return validation failure, or {@code null} if the value passed the validation
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static ValidationFailure execute(Criterion criterion, Object value) {
+        if (ValidationContext.isMemoEnabled() && !ValidationContext.isBound()) {
+            return ValidationContext.runWith(new ValidationContext(), () -> execute(criterion, value));
+        }
         if (criterion instanceof CriterionForNonPrimitive) {
             return ((CriterionForNonPrimitive) criterion).test(value);
         } else if (criterion instanceof CriterionForPrimitive) {
@@ -128,6 +143,29 @@ public class CriterionUtils {
         }
     }
 
+    /**
+     * Decorate the source so that its elements are validated lazily.
+     *
+     * @param criterion criterion for the source
+     * @param source source, eg. {@code Stream}, {@code Iterator}
+     * @param failureHandler failure handler
+     * @param <S> type of source
+     * @return decorated source, or the source itself if no element is validated lazily
+     * @see LazyElementCriterion
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> S decorateLazily(Criterion criterion, S source, Consumer<ValidationFailure> failureHandler) {
+        if (source == null) { return null; }
+        if (criterion instanceof LazyElementCriterion) {
+            return ((LazyElementCriterion<S>) criterion).decorate(source, failureHandler);
+        } else if (criterion instanceof Criteria) {
+            for (Object originalCriterion : ((Criteria<?>) criterion).getOriginalCriteria()) {
+                source = decorateLazily((Criterion) originalCriterion, source, failureHandler);
+            }
+        }
+        return source;
+    }
+
     /**
      * Return whether the criterion is the truth.
      *
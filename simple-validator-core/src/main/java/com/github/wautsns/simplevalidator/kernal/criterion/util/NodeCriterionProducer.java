@@ -18,14 +18,19 @@ package com.github.wautsns.simplevalidator.kernal.criterion.util;
 import com.github.wautsns.simplevalidator.kernal.constraint.Constraint;
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.criteria.Criteria;
+import com.github.wautsns.simplevalidator.kernal.criterion.wrapper.CriterionFusionForMapEntry;
+import com.github.wautsns.simplevalidator.kernal.criterion.wrapper.CriterionWrapper;
 import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TreeMap;
 
 /**
@@ -41,6 +46,9 @@ class NodeCriterionProducer {
     /** Disordered constrained node -> criterion processor map. */
     private final Map<ConstrainedNode, List<Constraint<?>.CriterionProcessor>> disorderedNodeCriterionProcessorMap =
             new LinkedHashMap<>();
+    /** Precheck constrained node -> criterion processor map. */
+    private final Map<ConstrainedNode, List<Constraint<?>.CriterionProcessor>> precheckNodeCriterionProcessorMap =
+            new LinkedHashMap<>();
     /** Ordered constrained node -> criterion processor map. */
     private final Map<Integer, LinkedHashMap<ConstrainedNode, List<Constraint<?>.CriterionProcessor>>> orderedNodeCriterionProcessorMap =
             new TreeMap<>(Constraint.ORDER_COMPARATOR);
@@ -53,28 +61,101 @@ class NodeCriterionProducer {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public Criterion produce() {
         Criteria criteria = CriterionUtils.newCriteria(root.getType());
-        orderedNodeCriterionProcessorMap.forEach((order, nodeCriterionProcessorMap) -> {
-            Map<ConstrainedNode, Criteria> nodeCriteriaMap = new LinkedHashMap<>();
-            process(nodeCriteriaMap, disorderedNodeCriterionProcessorMap);
-            process(nodeCriteriaMap, nodeCriterionProcessorMap);
-            if (nodeCriteriaMap.isEmpty()) { return; }
-            while (!(nodeCriteriaMap.size() == 1 && nodeCriteriaMap.containsKey(root))) {
-                new LinkedHashMap<>(nodeCriteriaMap).forEach((node, wip) -> {
-                    if (node == root) { return; }
-                    Criterion criterion = wip.simplify();
-                    if (criterion != null) {
-                        Criteria parentWip = nodeCriteriaMap.computeIfAbsent(
-                                node.getParent(), n -> CriterionUtils.newCriteria(n.getType()));
-                        parentWip.add(node.getCriterionWrapper().wrap(criterion));
-                    }
-                    nodeCriteriaMap.remove(node);
-                });
-            }
-            criteria.add(nodeCriteriaMap.values().iterator().next().simplify());
-        });
+        if (!precheckNodeCriterionProcessorMap.isEmpty()) { produce(criteria, precheckNodeCriterionProcessorMap); }
+        orderedNodeCriterionProcessorMap.values().forEach(
+                nodeCriterionProcessorMap -> produce(criteria, nodeCriterionProcessorMap));
         return criteria.simplify();
     }
 
+    /**
+     * Produce criterion with the node criterion processor map, and add it to the criteria.
+     *
+     * @param criteria criteria
+     * @param nodeCriterionProcessorMap node criterion processor map
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void produce(
+            Criteria criteria, Map<ConstrainedNode, List<Constraint<?>.CriterionProcessor>> nodeCriterionProcessorMap) {
+        Map<ConstrainedNode, Criteria> nodeCriteriaMap = new LinkedHashMap<>();
+        process(nodeCriteriaMap, disorderedNodeCriterionProcessorMap);
+        process(nodeCriteriaMap, nodeCriterionProcessorMap);
+        if (nodeCriteriaMap.isEmpty()) { return; }
+        Map<ConstrainedNode, List<ConstrainedNode>> nodeChildrenMap = new HashMap<>();
+        Map<ConstrainedNode, Criterion> nodeCriterionMap = new HashMap<>();
+        while (!(nodeCriteriaMap.size() == 1 && nodeCriteriaMap.containsKey(root))) {
+            // a node will be processed after all of its descendants, so that its criteria are complete
+            Set<ConstrainedNode> ancestors = getAncestors(nodeCriteriaMap.keySet());
+            new LinkedHashMap<>(nodeCriteriaMap).forEach((node, wip) -> {
+                if (node == root || ancestors.contains(node)) { return; }
+                addChildCriteria(wip, nodeChildrenMap.remove(node), nodeCriterionMap);
+                Criterion criterion = wip.simplify();
+                if (criterion != null) {
+                    ConstrainedNode parent = node.getParent();
+                    nodeCriteriaMap.computeIfAbsent(parent, n -> CriterionUtils.newCriteria(n.getType()));
+                    nodeChildrenMap.computeIfAbsent(parent, n -> new LinkedList<>()).add(node);
+                    nodeCriterionMap.put(node, criterion);
+                }
+                nodeCriteriaMap.remove(node);
+            });
+        }
+        Criteria rootWip = nodeCriteriaMap.values().iterator().next();
+        addChildCriteria(rootWip, nodeChildrenMap.remove(root), nodeCriterionMap);
+        criteria.add(rootWip.simplify());
+    }
+
+    /**
+     * Get ancestors(excluding the root's ancestors) of the nodes.
+     *
+     * @param nodes nodes
+     * @return ancestors of the nodes
+     */
+    private Set<ConstrainedNode> getAncestors(Set<ConstrainedNode> nodes) {
+        Set<ConstrainedNode> ancestors = new HashSet<>();
+        for (ConstrainedNode node : nodes) {
+            while (node != root && (node = node.getParent()) != null && ancestors.add(node)) {
+                // just collect ancestors
+            }
+        }
+        return ancestors;
+    }
+
+    /**
+     * Add criteria of the children to the parent wip.
+     *
+     * <p>Criteria of the children whose criterion wrapper is fusible(e.g. {@code Map<@VX K, @VY V>}) will be fused
+     * into one criterion, so that the container will be traversed only once.
+     *
+     * @param wip parent wip
+     * @param children children, or {@code null} if there are no children with criterion
+     * @param nodeCriterionMap node -> criterion map
+     * @see CriterionFusionForMapEntry
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void addChildCriteria(
+            Criteria wip, List<ConstrainedNode> children, Map<ConstrainedNode, Criterion> nodeCriterionMap) {
+        if (children == null) { return; }
+        List<CriterionWrapper> fusibleCriterionWrappers = new LinkedList<>();
+        List<Criterion> fusibleCriteria = new LinkedList<>();
+        for (ConstrainedNode child : children) {
+            if (CriterionFusionForMapEntry.isFusible(child.getCriterionWrapper())) {
+                fusibleCriterionWrappers.add(child.getCriterionWrapper());
+                fusibleCriteria.add(nodeCriterionMap.get(child));
+            }
+        }
+        boolean fusion = (fusibleCriteria.size() > 1);
+        // the fused criterion takes the position of the first fusible child(criteria may be the same instance)
+        boolean fused = false;
+        for (ConstrainedNode child : children) {
+            Criterion criterion = nodeCriterionMap.remove(child);
+            if (!fusion || !CriterionFusionForMapEntry.isFusible(child.getCriterionWrapper())) {
+                wip.add(child.getCriterionWrapper().wrap(criterion));
+            } else if (!fused) {
+                wip.add(CriterionFusionForMapEntry.fuse(fusibleCriterionWrappers, fusibleCriteria));
+                fused = true;
+            }
+        }
+    }
+
     /**
      * Process node criteria map.
      *
@@ -124,7 +205,10 @@ class NodeCriterionProducer {
     private void add(ConstrainedNode node, Constraint<?> constraint) {
         Integer order = constraint.getOrder();
         Map<ConstrainedNode, List<Constraint<?>.CriterionProcessor>> target;
-        if (order == null) {
+        if (constraint.getMetadata().isPrecheck() && !node.getChildren().isEmpty()) {
+            // prechecks on a container are evaluated before all other constraints of the container and its elements
+            target = precheckNodeCriterionProcessorMap;
+        } else if (order == null) {
             target = disorderedNodeCriterionProcessorMap;
         } else {
             target = orderedNodeCriterionProcessorMap.computeIfAbsent(order, i -> new LinkedHashMap<>());
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.util;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Validation context.
+ *
+ * <p>A validation context is bound to the current thread while nested objects are validated(e.g. by
+ * {@code VInDepth}), and is shared by all nested validations under the same outermost nested object. It is not
+ * thread-safe, so containers will not be traversed in parallel while a context is bound.
+ *
+ * <p>If memo is enabled, a context will be bound during every {@link CriterionUtils#execute(Criterion, Object)}, and
+ * results of nested objects will be memoized by the object(identity) and the criterion, so that an object shared by
+ * several paths(e.g. DAG-shaped payloads) is validated only once per execution.
+ *
+ * <p>A memoized result does not depend on the path on which it was produced, so:
+ * <ul>
+ * <li>Results depending on the depth or the count of nested objects(e.g. limits of {@code VInDepth}) must not be
+ * memoized, see {@link #execute(Criterion, Object, boolean)}.</li>
+ * <li>An object skipped because it is already on the current path(i.e. cycle) is treated as passed in the memoized
+ * result. The skipped object is still validated by its enclosing execution in the same context, so a failure of it
+ * will not be lost, but may be reported at the location of another path.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ */
+public class ValidationContext {
+
+    /** Context bound to the current thread. */
+    private static final ThreadLocal<ValidationContext> CURRENT = new ThreadLocal<>();
+    /** Result of nested object which passes, used as the memo. */
+    private static final ValidationFailure PASSED = new ValidationFailure(null);
+
+    /** Whether memo is enabled. */
+    private static volatile boolean memoEnabled = false;
+
+    /** Objects on the current path(identity), from the outermost to the innermost. */
+    private final Map<Object, Boolean> objectsOnPath = new IdentityHashMap<>();
+    /** Depth of the current path. */
+    private @Getter int depth;
+    /** Count of objects that have been entered. */
+    private @Getter int count;
+    /** Memo: (object, criterion) -&gt; result, {@code null} if memo is disabled. */
+    private final Map<MemoKey, ValidationFailure> memo = memoEnabled ? new HashMap<>() : null;
+
+    /**
+     * Return whether memo is enabled.
+     *
+     * @return {@code true} if memo is enabled, otherwise {@code false}
+     */
+    public static boolean isMemoEnabled() {
+        return memoEnabled;
+    }
+
+    /**
+     * Set whether memo is enabled.
+     *
+     * <p>Memo is disabled by default, since a bound context disables the parallel traversal.
+     *
+     * @param memoEnabled whether memo is enabled
+     */
+    public static void setMemoEnabled(boolean memoEnabled) {
+        ValidationContext.memoEnabled = memoEnabled;
+    }
+
+    /**
+     * Get the context bound to the current thread.
+     *
+     * @return the context bound to the current thread, or {@code null} if absent
+     */
+    public static ValidationContext getCurrent() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Return whether a context is bound to the current thread.
+     *
+     * @return {@code true} if a context is bound to the current thread, otherwise {@code false}
+     */
+    public static boolean isBound() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Run the action with the context bound to the current thread.
+     *
+     * <p>The previously bound context(if any) will be restored after the action.
+     *
+     * @param context context
+     * @param action action
+     * @param <R> type of result
+     * @return result of the action
+     */
+    public static <R> R runWith(ValidationContext context, Supplier<R> action) {
+        ValidationContext previous = CURRENT.get();
+        CURRENT.set(context);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Enter the object.
+     *
+     * @param object object
+     * @return {@code true} if entered, or {@code false} if the object is already on the current path(i.e. cycle)
+     */
+    public boolean enter(Object object) {
+        if (objectsOnPath.putIfAbsent(object, Boolean.TRUE) != null) { return false; }
+        depth++;
+        count++;
+        return true;
+    }
+
+    /**
+     * Exit the object entered.
+     *
+     * @param object object
+     */
+    public void exit(Object object) {
+        objectsOnPath.remove(object);
+        depth--;
+    }
+
+    /**
+     * Execute the criterion with the nested object.
+     *
+     * <p>If memo is enabled, the result will be memoized, and a copy of the memoized result will be returned on repeat
+     * executions, so the failure can be enhanced(e.g. location rewritten) freely by the caller.
+     *
+     * @param criterion criterion
+     * @param object nested object
+     * @return validation failure, or {@code null} if the nested object passes the validation
+     */
+    public ValidationFailure execute(Criterion criterion, Object object) {
+        return execute(criterion, object, true);
+    }
+
+    /**
+     * Execute the criterion with the nested object.
+     *
+     * @param criterion criterion
+     * @param object nested object
+     * @param memoizable whether the result can be memoized(and a memoized result can be reused), it should be
+     *         {@code false} if the result depends on the current path
+     * @return validation failure, or {@code null} if the nested object passes the validation
+     * @see #execute(Criterion, Object)
+     */
+    public ValidationFailure execute(Criterion criterion, Object object, boolean memoizable) {
+        if (memo == null || !memoizable) { return CriterionUtils.execute(criterion, object); }
+        MemoKey key = new MemoKey(object, criterion);
+        ValidationFailure memoized = memo.get(key);
+        if (memoized != null) { return (memoized == PASSED) ? null : memoized.copy(); }
+        ValidationFailure failure = CriterionUtils.execute(criterion, object);
+        memo.put(key, (failure == null) ? PASSED : failure.copy());
+        return failure;
+    }
+
+    // #################### internal utils ################################################
+
+    /** Memo key, object and criterion are compared by identity. */
+    private static final class MemoKey {
+
+        /** Object. */
+        private final Object object;
+        /** Criterion. */
+        private final Criterion criterion;
+
+        private MemoKey(Object object, Criterion criterion) {
+            this.object = object;
+            this.criterion = criterion;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof MemoKey)) { return false; }
+            MemoKey that = (MemoKey) obj;
+            return (object == that.object) && (criterion == that.criterion);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object) * 31 + System.identityHashCode(criterion);
+        }
+
+    }
+
+}
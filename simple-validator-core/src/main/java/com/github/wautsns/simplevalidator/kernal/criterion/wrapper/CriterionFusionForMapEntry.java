@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.wrapper;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForPrimitive;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Criterion fusion for map entry.
+ *
+ * <p>Criteria wrapped by {@link CriterionWrapperForMapKey} and {@link CriterionWrapperForMapValue} over the same map
+ * traverse the map once each. Fused criterion traverses the map only once, and tests the key and value per entry.
+ *
+ * @author wautsns
+ * @since Jul 24, 2020
+ */
+@UtilityClass
+public class CriterionFusionForMapEntry {
+
+    /**
+     * Return whether the criterion wrapper can be fused.
+     *
+     * @param criterionWrapper criterion wrapper
+     * @return {@code true} if the criterion wrapper can be fused, otherwise {@code false}
+     */
+    public static boolean isFusible(CriterionWrapper criterionWrapper) {
+        return criterionWrapper instanceof CriterionWrapperForMapKey
+                || criterionWrapper instanceof CriterionWrapperForMapValue;
+    }
+
+    /**
+     * Fuse criteria.
+     *
+     * <p>For every entry, the criteria will be tested in order, and the key of the entry will be added as indicator of
+     * the failure, the same as the wrapped criteria.
+     *
+     * @param criterionWrappers criterion wrappers(fusible)
+     * @param criteria criteria to be wrapped, in the same order as the criterion wrappers
+     * @return fused criterion
+     * @see #isFusible(CriterionWrapper)
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static CriterionForNonPrimitive<Map<?, ?>> fuse(
+            List<CriterionWrapper> criterionWrappers, List<Criterion> criteria) {
+        int size = criteria.size();
+        if (criterionWrappers.size() != size) {
+            throw new IllegalArgumentException("Criterion wrappers and criteria must be of the same size.");
+        }
+        boolean[] forKeys = new boolean[size];
+        Function<Object, ValidationFailure>[] testers = new Function[size];
+        for (int i = 0; i < size; i++) {
+            CriterionWrapper criterionWrapper = criterionWrappers.get(i);
+            if (!isFusible(criterionWrapper)) {
+                throw new IllegalArgumentException("Criterion wrapper cannot be fused: " + criterionWrapper);
+            }
+            forKeys[i] = (criterionWrapper instanceof CriterionWrapperForMapKey);
+            testers[i] = toTester(criteria.get(i));
+        }
+        return new CriterionForNonPrimitive<Map<?, ?>>() {
+            @Override
+            protected ValidationFailure testWithoutEnhancingFailure(Map<?, ?> map) {
+                if (ParallelTraversal.isApplicable(map.size())) {
+                    return ParallelTraversal.traverse(
+                            map.entrySet().spliterator(), (entry, index) -> testEntry(forKeys, testers, entry));
+                }
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    ValidationFailure failure = testEntry(forKeys, testers, entry);
+                    if (failure != null) { return failure; }
+                }
+                return null;
+            }
+        };
+    }
+
+    // #################### internal utils ##############################################
+
+    /**
+     * Convert the criterion to a tester.
+     *
+     * @param criterion criterion
+     * @return tester
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, ValidationFailure> toTester(Criterion criterion) {
+        if (criterion instanceof CriterionForNonPrimitive) {
+            return ((CriterionForNonPrimitive<Object>) criterion)::test;
+        } else if (criterion instanceof CriterionForPrimitive) {
+            return ((CriterionForPrimitive<Object>) criterion)::testWrappedPrimitiveValue;
+        } else {
+            throw new IllegalStateException("Unsupported criterion: " + criterion);
+        }
+    }
+
+    /**
+     * Test the entry.
+     *
+     * @param forKeys whether the tester is for key
+     * @param testers testers
+     * @param entry entry
+     * @return failure(with the key as indicator), or {@code null} if the entry passes
+     */
+    private static ValidationFailure testEntry(
+            boolean[] forKeys, Function<Object, ValidationFailure>[] testers, Map.Entry<?, ?> entry) {
+        for (int i = 0; i < testers.length; i++) {
+            ValidationFailure failure = testers[i].apply(forKeys[i] ? entry.getKey() : entry.getValue());
+            if (failure != null) { return failure.addIndicator(entry.getKey()); }
+        }
+        return null;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.github.wautsns.simplevalidator.kernal.criterion.wrapper;
 
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForBoolean;
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForByte;
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForChar;
@@ -9,10 +10,17 @@ import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForInt
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForLong;
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
 import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForShort;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.RangeCriterion;
+import com.github.wautsns.simplevalidator.kernal.criterion.criteria.Criteria;
 import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.IntFunction;
+
 /**
  * Criterion wrapper for array component.
  *
@@ -30,11 +38,7 @@ public class CriterionWrapperForArrayComponent extends CriterionWrapper {
         return new CriterionForNonPrimitive<T[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(T[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
@@ -44,111 +48,290 @@ public class CriterionWrapperForArrayComponent extends CriterionWrapper {
         return new CriterionForNonPrimitive<boolean[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(boolean[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
 
     @Override
     public CriterionForNonPrimitive<char[]> wrap(CriterionForChar criterion) {
+        RangeCriterion[] rangeCriteria = getRangeCriteria(criterion);
         return new CriterionForNonPrimitive<char[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(char[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                if (rangeCriteria != null && isInRange(rangeCriteria, array)) { return null; }
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
 
     @Override
     public CriterionForNonPrimitive<byte[]> wrap(CriterionForByte criterion) {
+        RangeCriterion[] rangeCriteria = getRangeCriteria(criterion);
         return new CriterionForNonPrimitive<byte[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(byte[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                if (rangeCriteria != null && isInRange(rangeCriteria, array)) { return null; }
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
 
     @Override
     public CriterionForNonPrimitive<short[]> wrap(CriterionForShort criterion) {
+        RangeCriterion[] rangeCriteria = getRangeCriteria(criterion);
         return new CriterionForNonPrimitive<short[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(short[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                if (rangeCriteria != null && isInRange(rangeCriteria, array)) { return null; }
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
 
     @Override
     public CriterionForNonPrimitive<int[]> wrap(CriterionForInt criterion) {
+        RangeCriterion[] rangeCriteria = getRangeCriteria(criterion);
         return new CriterionForNonPrimitive<int[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(int[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                if (rangeCriteria != null && isInRange(rangeCriteria, array)) { return null; }
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
 
     @Override
     public CriterionForNonPrimitive<long[]> wrap(CriterionForLong criterion) {
+        RangeCriterion[] rangeCriteria = getRangeCriteria(criterion);
         return new CriterionForNonPrimitive<long[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(long[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                if (rangeCriteria != null && isInRange(rangeCriteria, array)) { return null; }
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
 
     @Override
     public CriterionForNonPrimitive<float[]> wrap(CriterionForFloat criterion) {
+        RangeCriterion[] rangeCriteria = getRangeCriteria(criterion);
         return new CriterionForNonPrimitive<float[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(float[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                if (rangeCriteria != null && isInRange(rangeCriteria, array)) { return null; }
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
 
     @Override
     public CriterionForNonPrimitive<double[]> wrap(CriterionForDouble criterion) {
+        RangeCriterion[] rangeCriteria = getRangeCriteria(criterion);
         return new CriterionForNonPrimitive<double[]>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(double[] array) {
-                for (int i = 0; i < array.length; i++) {
-                    ValidationFailure failure = criterion.test(array[i]);
-                    if (failure != null) { return failure.addIndicator(i); }
-                }
-                return null;
+                if (rangeCriteria != null && isInRange(rangeCriteria, array)) { return null; }
+                return testComponents(array.length, i -> criterion.test(array[i]));
             }
         };
     }
 
+    // #################### traversal ###################################################
+
+    /**
+     * Test components of the array, in parallel if {@linkplain ParallelTraversal#isApplicable(int) applicable}.
+     *
+     * @param length length of the array
+     * @param tester tester, index -&gt; failure of the component at the index(without indicator)
+     * @return failure of the first failed component(the index will be added as indicator), or {@code null} if all
+     *         components pass
+     */
+    private static ValidationFailure testComponents(int length, IntFunction<ValidationFailure> tester) {
+        if (ParallelTraversal.isApplicable(length)) { return ParallelTraversal.traverse(length, tester); }
+        for (int i = 0; i < length; i++) {
+            ValidationFailure failure = tester.apply(i);
+            if (failure != null) { return failure.addIndicator(i); }
+        }
+        return null;
+    }
+
+    // #################### range precheck ##############################################
+
+    /**
+     * Get range criteria of the criterion.
+     *
+     * @param criterion criterion
+     * @return range criteria, or {@code null} if the criterion is not composed of range criteria only
+     */
+    private static RangeCriterion[] getRangeCriteria(Criterion criterion) {
+        if (criterion instanceof RangeCriterion) { return new RangeCriterion[]{ (RangeCriterion) criterion }; }
+        if (!(criterion instanceof Criteria)) { return null; }
+        List<RangeCriterion> rangeCriteria = new LinkedList<>();
+        for (Criterion originalCriterion : ((Criteria<?>) criterion).getOriginalCriteria()) {
+            RangeCriterion[] tmp = getRangeCriteria(originalCriterion);
+            if (tmp == null) { return null; }
+            rangeCriteria.addAll(Arrays.asList(tmp));
+        }
+        return rangeCriteria.toArray(new RangeCriterion[0]);
+    }
+
+    /**
+     * Return whether all integral values in {@code [min, max]} pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param min min value
+     * @param max max value
+     * @return {@code true} if all values pass, otherwise {@code false}
+     */
+    private static boolean covers(RangeCriterion[] rangeCriteria, long min, long max) {
+        for (RangeCriterion rangeCriterion : rangeCriteria) {
+            if (!rangeCriterion.covers(min, max)) { return false; }
+        }
+        return true;
+    }
+
+    /**
+     * Return whether all floating-point values in {@code [min, max]} pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param min min value
+     * @param max max value
+     * @return {@code true} if all values pass, otherwise {@code false}
+     */
+    private static boolean covers(RangeCriterion[] rangeCriteria, double min, double max) {
+        // Math.min and Math.max propagate NaN
+        if (Double.isNaN(min) || Double.isNaN(max)) { return false; }
+        for (RangeCriterion rangeCriterion : rangeCriteria) {
+            if (!rangeCriterion.covers(min, max)) { return false; }
+        }
+        return true;
+    }
+
+    /**
+     * Return whether all components of the array pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param array array
+     * @return {@code true} if all components pass, otherwise {@code false}(some components may pass)
+     */
+    private static boolean isInRange(RangeCriterion[] rangeCriteria, byte[] array) {
+        if (array.length == 0) { return true; }
+        int min = array[0];
+        int max = min;
+        for (byte value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return covers(rangeCriteria, min, max);
+    }
+
+    /**
+     * Return whether all components of the array pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param array array
+     * @return {@code true} if all components pass, otherwise {@code false}(some components may pass)
+     */
+    private static boolean isInRange(RangeCriterion[] rangeCriteria, short[] array) {
+        if (array.length == 0) { return true; }
+        int min = array[0];
+        int max = min;
+        for (short value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return covers(rangeCriteria, min, max);
+    }
+
+    /**
+     * Return whether all components of the array pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param array array
+     * @return {@code true} if all components pass, otherwise {@code false}(some components may pass)
+     */
+    private static boolean isInRange(RangeCriterion[] rangeCriteria, char[] array) {
+        if (array.length == 0) { return true; }
+        int min = array[0];
+        int max = min;
+        for (char value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return covers(rangeCriteria, min, max);
+    }
+
+    /**
+     * Return whether all components of the array pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param array array
+     * @return {@code true} if all components pass, otherwise {@code false}(some components may pass)
+     */
+    private static boolean isInRange(RangeCriterion[] rangeCriteria, int[] array) {
+        if (array.length == 0) { return true; }
+        int min = array[0];
+        int max = min;
+        for (int value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return covers(rangeCriteria, min, max);
+    }
+
+    /**
+     * Return whether all components of the array pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param array array
+     * @return {@code true} if all components pass, otherwise {@code false}(some components may pass)
+     */
+    private static boolean isInRange(RangeCriterion[] rangeCriteria, long[] array) {
+        if (array.length == 0) { return true; }
+        long min = array[0];
+        long max = min;
+        for (long value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return covers(rangeCriteria, min, max);
+    }
+
+    /**
+     * Return whether all components of the array pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param array array
+     * @return {@code true} if all components pass, otherwise {@code false}(some components may pass)
+     */
+    private static boolean isInRange(RangeCriterion[] rangeCriteria, float[] array) {
+        if (array.length == 0) { return true; }
+        float min = array[0];
+        float max = min;
+        for (float value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return covers(rangeCriteria, min, max);
+    }
+
+    /**
+     * Return whether all components of the array pass the range criteria.
+     *
+     * @param rangeCriteria range criteria
+     * @param array array
+     * @return {@code true} if all components pass, otherwise {@code false}(some components may pass)
+     */
+    private static boolean isInRange(RangeCriterion[] rangeCriteria, double[] array) {
+        if (array.length == 0) { return true; }
+        double min = array[0];
+        double max = min;
+        for (double value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return covers(rangeCriteria, min, max);
+    }
+
 }
@@ -6,6 +6,11 @@ import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
 /**
  * Criterion wrapper for iterable element.
  *
@@ -23,10 +28,26 @@ public class CriterionWrapperForIterableElement extends CriterionWrapper {
         return new CriterionForNonPrimitive<Iterable<T>>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(Iterable<T> iterableValue) {
+                Spliterator<T> spliterator = getSpliteratorForParallelTraversal(iterableValue);
+                if (spliterator != null) {
+                    return ParallelTraversal.traverse(spliterator, (element, index) -> {
+                        ValidationFailure failure = criterion.test(element);
+                        return (failure == null) ? null : failure.addIndicator(index);
+                    });
+                }
+                if (iterableValue instanceof RandomAccess && iterableValue instanceof List) {
+                    List<T> list = (List<T>) iterableValue;
+                    for (int index = 0, size = list.size(); index < size; index++) {
+                        ValidationFailure failure = criterion.test(list.get(index));
+                        if (failure != null) { return failure.addIndicator(index); }
+                    }
+                    return null;
+                }
                 int index = 0;
                 for (T element : iterableValue) {
                     ValidationFailure failure = criterion.test(element);
                     if (failure != null) { return failure.addIndicator(index); }
+                    index++;
                 }
                 return null;
             }
@@ -38,14 +59,46 @@ public class CriterionWrapperForIterableElement extends CriterionWrapper {
         return new CriterionForNonPrimitive<Iterable<T>>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(Iterable<T> iterableValue) {
+                Spliterator<T> spliterator = getSpliteratorForParallelTraversal(iterableValue);
+                if (spliterator != null) {
+                    return ParallelTraversal.traverse(spliterator, (element, index) -> {
+                        ValidationFailure failure = criterion.testWrappedPrimitiveValue(element);
+                        return (failure == null) ? null : failure.addIndicator(index);
+                    });
+                }
+                if (iterableValue instanceof RandomAccess && iterableValue instanceof List) {
+                    List<T> list = (List<T>) iterableValue;
+                    for (int index = 0, size = list.size(); index < size; index++) {
+                        ValidationFailure failure = criterion.testWrappedPrimitiveValue(list.get(index));
+                        if (failure != null) { return failure.addIndicator(index); }
+                    }
+                    return null;
+                }
                 int index = 0;
                 for (T element : iterableValue) {
                     ValidationFailure failure = criterion.testWrappedPrimitiveValue(element);
                     if (failure != null) { return failure.addIndicator(index); }
+                    index++;
                 }
                 return null;
             }
         };
     }
 
+    /**
+     * Get spliterator for parallel traversal.
+     *
+     * @param iterableValue iterable value
+     * @param <T> type of element
+     * @return spliterator for parallel traversal, or {@code null} if the iterable value should be traversed sequentially
+     * @see ParallelTraversal
+     */
+    private static <T> Spliterator<T> getSpliteratorForParallelTraversal(Iterable<T> iterableValue) {
+        if (!(iterableValue instanceof Collection)) { return null; }
+        if (!ParallelTraversal.isApplicable(((Collection<T>) iterableValue).size())) { return null; }
+        Spliterator<T> spliterator = iterableValue.spliterator();
+        // indexes are required as indicators
+        return spliterator.hasCharacteristics(Spliterator.SUBSIZED) ? spliterator : null;
+    }
+
 }
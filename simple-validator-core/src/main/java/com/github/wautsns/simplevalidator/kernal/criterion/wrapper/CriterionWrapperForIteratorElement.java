@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.wrapper;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForPrimitive;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Criterion wrapper for iterator element.
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ * @see LazyElementCriterion
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CriterionWrapperForIteratorElement extends CriterionWrapper {
+
+    /** {@code CriterionWrapperForIteratorElement} instance. */
+    public static final CriterionWrapperForIteratorElement INSTANCE = new CriterionWrapperForIteratorElement();
+
+    @Override
+    public <T> LazyElementCriterion<Iterator<T>> wrap(CriterionForNonPrimitive<T> criterion) {
+        return produce(criterion);
+    }
+
+    @Override
+    public <T> LazyElementCriterion<Iterator<T>> wrap(CriterionForPrimitive<T> criterion) {
+        return produce(criterion);
+    }
+
+    // #################### criterion ###################################################
+
+    /**
+     * Produce criterion.
+     *
+     * @param criterion criterion for element
+     * @param <T> type of element
+     * @return lazy element criterion
+     */
+    private static <T> LazyElementCriterion<Iterator<T>> produce(Criterion criterion) {
+        return new LazyElementCriterion<Iterator<T>>(criterion) {
+            @Override
+            public Iterator<T> decorate(Iterator<T> source, Consumer<ValidationFailure> failureHandler) {
+                return new Iterator<T>() {
+
+                    /** Index of the next element. */
+                    private long index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return source.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        T element = source.next();
+                        testElement(element, index++, failureHandler);
+                        return element;
+                    }
+
+                    @Override
+                    public void remove() {
+                        source.remove();
+                    }
+
+                };
+            }
+        };
+    }
+
+}
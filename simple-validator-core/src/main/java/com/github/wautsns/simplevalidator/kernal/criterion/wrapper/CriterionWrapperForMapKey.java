@@ -25,6 +25,12 @@ public class CriterionWrapperForMapKey extends CriterionWrapper {
         return new CriterionForNonPrimitive<Map<T, ?>>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(Map<T, ?> map) {
+                if (ParallelTraversal.isApplicable(map.size())) {
+                    return ParallelTraversal.traverse(map.entrySet().spliterator(), (entry, index) -> {
+                        ValidationFailure failure = criterion.test(entry.getKey());
+                        return (failure == null) ? null : failure.addIndicator(entry.getKey());
+                    });
+                }
                 for (Map.Entry<T, ?> entry : map.entrySet()) {
                     ValidationFailure failure = criterion.test(entry.getKey());
                     if (failure != null) { return failure.addIndicator(entry.getKey()); }
@@ -39,6 +45,12 @@ public class CriterionWrapperForMapKey extends CriterionWrapper {
         return new CriterionForNonPrimitive<Map<T, ?>>() {
             @Override
             protected ValidationFailure testWithoutEnhancingFailure(Map<T, ?> map) {
+                if (ParallelTraversal.isApplicable(map.size())) {
+                    return ParallelTraversal.traverse(map.entrySet().spliterator(), (entry, index) -> {
+                        ValidationFailure failure = criterion.testWrappedPrimitiveValue(entry.getKey());
+                        return (failure == null) ? null : failure.addIndicator(entry.getKey());
+                    });
+                }
                 for (Map.Entry<T, ?> entry : map.entrySet()) {
                     ValidationFailure failure = criterion.testWrappedPrimitiveValue(entry.getKey());
                     if (failure != null) { return failure.addIndicator(entry.getKey()); }
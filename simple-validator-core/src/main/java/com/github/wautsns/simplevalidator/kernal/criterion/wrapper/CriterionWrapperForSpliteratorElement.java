@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.wrapper;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForPrimitive;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Criterion wrapper for spliterator element.
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ * @see LazyElementCriterion
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CriterionWrapperForSpliteratorElement extends CriterionWrapper {
+
+    /** {@code CriterionWrapperForSpliteratorElement} instance. */
+    public static final CriterionWrapperForSpliteratorElement INSTANCE = new CriterionWrapperForSpliteratorElement();
+
+    @Override
+    public <T> LazyElementCriterion<Spliterator<T>> wrap(CriterionForNonPrimitive<T> criterion) {
+        return produce(criterion);
+    }
+
+    @Override
+    public <T> LazyElementCriterion<Spliterator<T>> wrap(CriterionForPrimitive<T> criterion) {
+        return produce(criterion);
+    }
+
+    // #################### criterion ###################################################
+
+    /**
+     * Produce criterion.
+     *
+     * @param criterion criterion for element
+     * @param <T> type of element
+     * @return lazy element criterion
+     */
+    static <T> LazyElementCriterion<Spliterator<T>> produce(Criterion criterion) {
+        return new LazyElementCriterion<Spliterator<T>>(criterion) {
+            @Override
+            public Spliterator<T> decorate(Spliterator<T> source, Consumer<ValidationFailure> failureHandler) {
+                return new LazySpliterator<>(this, source, failureHandler);
+            }
+        };
+    }
+
+    // #################### internal utils ################################################
+
+    /**
+     * Spliterator whose elements are validated as they are pulled.
+     *
+     * <p>The spliterator is not split, so the indexes are always in encounter order.
+     *
+     * @param <T> type of element
+     */
+    private static final class LazySpliterator<T> implements Spliterator<T> {
+
+        /** Lazy element criterion. */
+        private final LazyElementCriterion<Spliterator<T>> criterion;
+        /** Source. */
+        private final Spliterator<T> source;
+        /** Failure handler. */
+        private final Consumer<ValidationFailure> failureHandler;
+        /** Index of the next element. */
+        private long index;
+
+        private LazySpliterator(
+                LazyElementCriterion<Spliterator<T>> criterion, Spliterator<T> source,
+                Consumer<ValidationFailure> failureHandler) {
+            this.criterion = criterion;
+            this.source = source;
+            this.failureHandler = failureHandler;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return source.tryAdvance(element -> {
+                criterion.testElement(element, index++, failureHandler);
+                action.accept(element);
+            });
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            source.forEachRemaining(element -> {
+                criterion.testElement(element, index++, failureHandler);
+                action.accept(element);
+            });
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ~(Spliterator.SUBSIZED | Spliterator.CONCURRENT);
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return source.getComparator();
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.wrapper;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForPrimitive;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Criterion wrapper for stream element.
+ *
+ * <p>The decorated stream is sequential, and closing it closes the source.
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ * @see LazyElementCriterion
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CriterionWrapperForStreamElement extends CriterionWrapper {
+
+    /** {@code CriterionWrapperForStreamElement} instance. */
+    public static final CriterionWrapperForStreamElement INSTANCE = new CriterionWrapperForStreamElement();
+
+    @Override
+    public <T> LazyElementCriterion<Stream<T>> wrap(CriterionForNonPrimitive<T> criterion) {
+        return produce(criterion);
+    }
+
+    @Override
+    public <T> LazyElementCriterion<Stream<T>> wrap(CriterionForPrimitive<T> criterion) {
+        return produce(criterion);
+    }
+
+    // #################### criterion ###################################################
+
+    /**
+     * Produce criterion.
+     *
+     * @param criterion criterion for element
+     * @param <T> type of element
+     * @return lazy element criterion
+     */
+    private static <T> LazyElementCriterion<Stream<T>> produce(Criterion criterion) {
+        LazyElementCriterion<Spliterator<T>> spliteratorCriterion = CriterionWrapperForSpliteratorElement.produce(
+                criterion);
+        return new LazyElementCriterion<Stream<T>>(criterion) {
+            @Override
+            public Stream<T> decorate(Stream<T> source, Consumer<ValidationFailure> failureHandler) {
+                Consumer<ValidationFailure> enhancingFailureHandler = failure -> failureHandler.accept(
+                        enhanceValidationFailure(failure));
+                Spliterator<T> spliterator = spliteratorCriterion.decorate(
+                        source.spliterator(), enhancingFailureHandler);
+                return StreamSupport.stream(spliterator, false).onClose(source::close);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.wrapper;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.Criterion;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForNonPrimitive;
+import com.github.wautsns.simplevalidator.kernal.criterion.basic.CriterionForPrimitive;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lazy element criterion.
+ *
+ * <p>Elements of a one-shot source(e.g. {@code Stream}, {@code Iterator}) cannot be validated without consuming the
+ * source, so the criterion always passes when tested. The source should be {@link #decorate(Object, Consumer)
+ * decorated} instead, and the elements will be validated one by one as they are pulled from the decorated source.
+ *
+ * @param <S> type of source
+ * @author wautsns
+ * @since Jul 25, 2020
+ */
+public abstract class LazyElementCriterion<S> extends CriterionForNonPrimitive<S> {
+
+    /** Element tester, element -&gt; failure(without indicator). */
+    private final Function<Object, ValidationFailure> elementTester;
+
+    /**
+     * Construct a lazy element criterion.
+     *
+     * @param elementCriterion criterion for element
+     */
+    @SuppressWarnings("unchecked")
+    protected LazyElementCriterion(Criterion elementCriterion) {
+        if (elementCriterion instanceof CriterionForNonPrimitive) {
+            this.elementTester = ((CriterionForNonPrimitive<Object>) elementCriterion)::test;
+        } else if (elementCriterion instanceof CriterionForPrimitive) {
+            this.elementTester = ((CriterionForPrimitive<Object>) elementCriterion)::testWrappedPrimitiveValue;
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+    @Override
+    protected final ValidationFailure testWithoutEnhancingFailure(S source) {
+        return null;
+    }
+
+    /**
+     * Decorate the source.
+     *
+     * <p>The failure of every failed element(the index will be added as indicator) will be passed to the failure
+     * handler when the element is pulled. If the failure handler returns normally, the element will still be
+     * returned.
+     *
+     * @param source source
+     * @param failureHandler failure handler, eg. throw a {@code ValidationException}
+     * @return decorated source
+     */
+    public abstract S decorate(S source, Consumer<ValidationFailure> failureHandler);
+
+    /**
+     * Test the element.
+     *
+     * <p>Sources may have more than {@link Integer#MAX_VALUE} elements, so the index is a {@code long}. The indicator
+     * is an {@code Integer} if the index fits, the same as indicators of other containers, otherwise a {@code Long}.
+     *
+     * @param element element
+     * @param index index of the element
+     * @param failureHandler failure handler
+     */
+    protected final void testElement(Object element, long index, Consumer<ValidationFailure> failureHandler) {
+        ValidationFailure failure = elementTester.apply(element);
+        if (failure == null) { return; }
+        Object indicator = (index <= Integer.MAX_VALUE) ? (Object) (int) index : (Object) index;
+        failureHandler.accept(enhanceValidationFailure(failure.addIndicator(indicator)));
+    }
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.criterion.wrapper;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.util.ValidationContext;
+import com.github.wautsns.simplevalidator.kernal.failure.ValidationFailure;
+import lombok.experimental.UtilityClass;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Parallel traversal of container elements.
+ *
+ * <p>Parallel traversal is disabled by default. If it is enabled by {@link #setThreshold(int)}, containers whose size
+ * is greater than or equal to the threshold will be split and traversed in the {@link #getPool() pool}.
+ *
+ * <p>The result is deterministic: if several elements fail, the failure of the first element(in encounter order)
+ * will be returned, the same as the sequential traversal.
+ *
+ * @author wautsns
+ * @since Jul 24, 2020
+ */
+@UtilityClass
+public class ParallelTraversal {
+
+    /** Min size of container to be traversed in parallel, {@link Integer#MAX_VALUE} means never. */
+    private static volatile int threshold = Integer.MAX_VALUE;
+    /** Pool in which the containers are traversed. */
+    private static volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * Get min size of container to be traversed in parallel.
+     *
+     * @return min size of container to be traversed in parallel
+     */
+    public static int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Set min size of container to be traversed in parallel.
+     *
+     * @param threshold min size of container to be traversed in parallel, {@link Integer#MAX_VALUE} means never
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public static void setThreshold(int threshold) {
+        if (threshold <= 0) { throw new IllegalArgumentException("Threshold must be positive."); }
+        ParallelTraversal.threshold = threshold;
+    }
+
+    /**
+     * Get pool in which the containers are traversed.
+     *
+     * @return pool in which the containers are traversed
+     */
+    public static ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Set pool in which the containers are traversed.
+     *
+     * @param pool pool in which the containers are traversed
+     */
+    public static void setPool(ForkJoinPool pool) {
+        ParallelTraversal.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Return whether the container of the specified size should be traversed in parallel.
+     *
+     * <p>Containers will not be traversed in parallel while a {@link ValidationContext} is bound to the current
+     * thread, since the context is not thread-safe.
+     *
+     * @param size size of container
+     * @return {@code true} if the container should be traversed in parallel, otherwise {@code false}
+     */
+    public static boolean isApplicable(int size) {
+        return size >= threshold && !ValidationContext.isBound();
+    }
+
+    /**
+     * Traverse indexes in parallel.
+     *
+     * @param size size of container
+     * @param tester tester, index -&gt; failure of the element at the index(without indicator)
+     * @return failure of the first failed element(the index will be added as indicator), or {@code null} if all
+     *         elements pass
+     */
+    public static ValidationFailure traverse(int size, IntFunction<ValidationFailure> tester) {
+        ForkJoinPool pool = ParallelTraversal.pool;
+        int leafSize = Math.max(size / (pool.getParallelism() << 3), 1);
+        return pool.invoke(new RangeTask(tester, 0, size, leafSize, new AtomicInteger(Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Traverse elements in parallel.
+     *
+     * <p>If the spliterator is not {@link Spliterator#SUBSIZED}(eg. spliterator of {@code HashMap} entries), it will
+     * still be split, but indexes of elements are unknown after splitting. The index passed to the tester will be
+     * {@code -1}, and elements after a failed element will not be skipped. The failure of the first failed element is
+     * still returned, since failures of prefixes take precedence over the rest.
+     *
+     * @param spliterator spliterator of container
+     * @param tester tester
+     * @param <E> type of element
+     * @return failure of the first failed element, or {@code null} if all elements pass
+     */
+    public static <E> ValidationFailure traverse(Spliterator<E> spliterator, ElementTester<E> tester) {
+        ForkJoinPool pool = ParallelTraversal.pool;
+        long leafSize = Math.max(spliterator.estimateSize() / (pool.getParallelism() << 3), 1);
+        AtomicLong lowestFailedIndex = spliterator.hasCharacteristics(Spliterator.SUBSIZED)
+                ? new AtomicLong(Long.MAX_VALUE)
+                : null;
+        return pool.invoke(new SpliteratorTask<>(tester, spliterator, 0, leafSize, lowestFailedIndex));
+    }
+
+    /**
+     * Element tester.
+     *
+     * @param <E> type of element
+     */
+    @FunctionalInterface
+    public interface ElementTester<E> {
+
+        /**
+         * Test the element.
+         *
+         * @param element element
+         * @param index index of the element, or {@code -1} if it is unknown
+         * @return failure(with indicator), or {@code null} if the element passes
+         */
+        ValidationFailure test(E element, int index);
+
+    }
+
+    // #################### internal utils ################################################
+
+    /** Task of traversing index range {@code [from, to)}. */
+    private static final class RangeTask extends RecursiveTask<ValidationFailure> {
+
+        private static final long serialVersionUID = 5209386150237391573L;
+
+        /** Tester. */
+        private final IntFunction<ValidationFailure> tester;
+        /** Start index(inclusive). */
+        private final int from;
+        /** End index(exclusive). */
+        private final int to;
+        /** Max size of range which will not be split. */
+        private final int leafSize;
+        /** Lowest failed index found so far, ranges after it will be skipped. */
+        private final AtomicInteger lowestFailedIndex;
+
+        private RangeTask(
+                IntFunction<ValidationFailure> tester, int from, int to, int leafSize,
+                AtomicInteger lowestFailedIndex) {
+            this.tester = tester;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.lowestFailedIndex = lowestFailedIndex;
+        }
+
+        @Override
+        protected ValidationFailure compute() {
+            if (from >= lowestFailedIndex.get()) { return null; }
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                RangeTask right = new RangeTask(tester, mid, to, leafSize, lowestFailedIndex);
+                right.fork();
+                ValidationFailure failure = new RangeTask(tester, from, mid, leafSize, lowestFailedIndex).compute();
+                ValidationFailure rightFailure = right.join();
+                return (failure != null) ? failure : rightFailure;
+            }
+            for (int i = from; i < to; i++) {
+                if (i >= lowestFailedIndex.get()) { return null; }
+                ValidationFailure failure = tester.apply(i);
+                if (failure != null) {
+                    lowestFailedIndex.accumulateAndGet(i, Math::min);
+                    return failure.addIndicator(i);
+                }
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * Task of traversing spliterator.
+     *
+     * @param <E> type of element
+     */
+    private static final class SpliteratorTask<E> extends RecursiveTask<ValidationFailure> implements Consumer<E> {
+
+        private static final long serialVersionUID = -1870935318409735162L;
+
+        /** Tester. */
+        private final ElementTester<E> tester;
+        /** Spliterator. */
+        private final Spliterator<E> spliterator;
+        /** Index of the first element, or {@code -1} if it is unknown. */
+        private final long from;
+        /** Max size of spliterator which will not be split. */
+        private final long leafSize;
+        /**
+         * Lowest failed index found so far, elements after it will be skipped, or {@code null} if the spliterator is
+         * not {@link Spliterator#SUBSIZED}.
+         */
+        private final AtomicLong lowestFailedIndex;
+        /** Current element. */
+        private E current;
+
+        private SpliteratorTask(
+                ElementTester<E> tester, Spliterator<E> spliterator, long from, long leafSize,
+                AtomicLong lowestFailedIndex) {
+            this.tester = tester;
+            this.spliterator = spliterator;
+            this.from = from;
+            this.leafSize = leafSize;
+            this.lowestFailedIndex = lowestFailedIndex;
+        }
+
+        @Override
+        protected ValidationFailure compute() {
+            if (lowestFailedIndex != null && from >= lowestFailedIndex.get()) { return null; }
+            Spliterator<E> prefix;
+            if (spliterator.estimateSize() > leafSize && (prefix = spliterator.trySplit()) != null) {
+                long mid = (lowestFailedIndex == null) ? -1 : from + prefix.getExactSizeIfKnown();
+                SpliteratorTask<E> right = new SpliteratorTask<>(tester, spliterator, mid, leafSize, lowestFailedIndex);
+                right.fork();
+                ValidationFailure failure = new SpliteratorTask<>(
+                        tester, prefix, from, leafSize, lowestFailedIndex).compute();
+                ValidationFailure rightFailure = right.join();
+                return (failure != null) ? failure : rightFailure;
+            }
+            if (lowestFailedIndex == null) {
+                while (spliterator.tryAdvance(this)) {
+                    ValidationFailure failure = tester.test(current, -1);
+                    if (failure != null) { return failure; }
+                }
+                return null;
+            }
+            for (long index = from; spliterator.tryAdvance(this); index++) {
+                if (index >= lowestFailedIndex.get()) { return null; }
+                ValidationFailure failure = tester.test(current, (int) index);
+                if (failure != null) {
+                    lowestFailedIndex.accumulateAndGet(index, Math::min);
+                    return failure;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void accept(E element) {
+            current = element;
+        }
+
+    }
+
+}
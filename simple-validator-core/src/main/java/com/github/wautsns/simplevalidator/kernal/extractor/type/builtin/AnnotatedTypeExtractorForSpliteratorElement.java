@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.extractor.type.builtin;
+
+import com.github.wautsns.simplevalidator.kernal.criterion.wrapper.CriterionWrapper;
+import com.github.wautsns.simplevalidator.kernal.criterion.wrapper.CriterionWrapperForSpliteratorElement;
+import com.github.wautsns.simplevalidator.kernal.extractor.type.basic.AnnotatedTypeExtractor;
+import com.github.wautsns.simplevalidator.kernal.extractor.type.basic.AnnotatedTypeExtractorForAnnotatedParameterizedType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Spliterator;
+
+/**
+ * Annotated type extractor for spliterator element.
+ *
+ * <p>Elements are validated lazily, see {@link CriterionWrapperForSpliteratorElement}.
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AnnotatedTypeExtractorForSpliteratorElement extends AnnotatedTypeExtractorForAnnotatedParameterizedType {
+
+    public static final AnnotatedTypeExtractor INSTANCE = new AnnotatedTypeExtractorForSpliteratorElement();
+
+    @Override
+    public String getNameOfExtractedType() {
+        return "@SPLITERATOR_ELEMENT";
+    }
+
+    @Override
+    protected TypeParameterMetadata initTypeParameterMetadata() {
+        return new TypeParameterMetadata() {
+            @Override
+            public Class<?> getParameterizedTypeClass() {
+                return Spliterator.class;
+            }
+
+            @Override
+            public int getIndex() {
+                return 0;
+            }
+        };
+    }
+
+    @Override
+    public CriterionWrapper getCriterionWrapper() {
+        return CriterionWrapperForSpliteratorElement.INSTANCE;
+    }
+
+}
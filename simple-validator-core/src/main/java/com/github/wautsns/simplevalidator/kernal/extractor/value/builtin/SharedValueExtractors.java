@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.extractor.value.builtin;
+
+import com.github.wautsns.simplevalidator.kernal.extractor.value.basic.ValueExtractor;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.doublevlaue.DoubleValueExtractorForDoubleAdder;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.doublevlaue.DoubleValueExtractorForOptionalDouble;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.intvalue.IntValueExtractorForAtomicInteger;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.intvalue.IntValueExtractorForOptionalInt;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.longvalue.LongValueExtractorForAtomicLong;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.longvalue.LongValueExtractorForLongAdder;
+import com.github.wautsns.simplevalidator.kernal.extractor.value.builtin.longvalue.LongValueExtractorForOptionalLong;
+import lombok.experimental.UtilityClass;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Shared value extractors.
+ *
+ * <p>Shared value extractors are available to every constraint: if neither the constraint nor its value extractors
+ * apply to a type, the first shared value extractor which applies to the type and whose extracted type the constraint
+ * applies to will be used. eg. {@code @VMin} on {@code AtomicLong} is validated by the criterion for {@code long}.
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ */
+@UtilityClass
+public class SharedValueExtractors {
+
+    /** Shared value extractors. */
+    private static final List<ValueExtractor> VALUE_EXTRACTORS = new CopyOnWriteArrayList<>(Arrays.asList(
+            IntValueExtractorForOptionalInt.INSTANCE,
+            LongValueExtractorForOptionalLong.INSTANCE,
+            DoubleValueExtractorForOptionalDouble.INSTANCE,
+            IntValueExtractorForAtomicInteger.INSTANCE,
+            LongValueExtractorForAtomicLong.INSTANCE,
+            LongValueExtractorForLongAdder.INSTANCE,
+            DoubleValueExtractorForDoubleAdder.INSTANCE
+    ));
+
+    /**
+     * Add a shared value extractor.
+     *
+     * @param valueExtractor value extractor
+     */
+    public static void add(ValueExtractor valueExtractor) {
+        VALUE_EXTRACTORS.add(valueExtractor);
+    }
+
+    /**
+     * Find the shared value extractor for the specified type.
+     *
+     * @param type type
+     * @param extractedTypePredicate predicate of the type of extracted value
+     * @return the first shared value extractor which applies to the type and whose type of extracted value satisfies
+     *         the predicate, or {@code null} if absent
+     */
+    public static ValueExtractor find(Type type, Predicate<Type> extractedTypePredicate) {
+        for (ValueExtractor valueExtractor : VALUE_EXTRACTORS) {
+            if (valueExtractor.applyTo(type) && extractedTypePredicate.test(valueExtractor.getTypeOfExtractedValue())) {
+                return valueExtractor;
+            }
+        }
+        return null;
+    }
+
+}
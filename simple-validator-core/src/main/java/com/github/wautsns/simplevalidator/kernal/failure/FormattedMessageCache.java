@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.failure;
+
+import com.github.wautsns.templatemessage.variable.VariableValueMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Formatted message cache.
+ *
+ * <p>Cache of formatted messages keyed by (message template, variables, locale). The cache is split into several
+ * segments, each of which is an LRU map guarded by its own lock.
+ *
+ * @author wautsns
+ * @since Jul 28, 2020
+ */
+public class FormattedMessageCache {
+
+    /** Number of segments. */
+    private static final int SEGMENT_COUNT = 16;
+
+    /** Segments. */
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    /** Max size of the cache, {@code 0} means the cache is disabled. */
+    private volatile int maxSize;
+    /** Number of hits. */
+    private final LongAdder hits = new LongAdder();
+    /** Number of misses. */
+    private final LongAdder misses = new LongAdder();
+    /** Number of evictions. */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Construct a formatted message cache.
+     *
+     * @param maxSize max size of the cache, {@code 0} means the cache is disabled
+     */
+    public FormattedMessageCache(int maxSize) {
+        for (int i = 0; i < SEGMENT_COUNT; i++) { segments[i] = new Segment(); }
+        setMaxSize(maxSize);
+    }
+
+    /**
+     * Return whether the cache is enabled.
+     *
+     * @return {@code true} if the cache is enabled, otherwise {@code false}
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Get max size of the cache.
+     *
+     * @return max size of the cache, {@code 0} means the cache is disabled
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Set max size of the cache.
+     *
+     * <p>Cached messages will be cleared.
+     *
+     * @param maxSize max size of the cache, {@code 0} means the cache is disabled
+     * @throws IllegalArgumentException if the max size is negative
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) { throw new IllegalArgumentException("Max size cannot be negative."); }
+        this.maxSize = maxSize;
+        clear();
+    }
+
+    /**
+     * Get the cached message, or format and cache it if absent.
+     *
+     * <p>If the cache is disabled, the message will be formatted directly.
+     *
+     * @param messageTemplate message template
+     * @param variables variables(will not be modified any more)
+     * @param locale locale
+     * @param formatter formatter of the message
+     * @return formatted message
+     */
+    public String get(
+            String messageTemplate, VariableValueMap variables, Locale locale, Supplier<String> formatter) {
+        if (!isEnabled()) { return formatter.get(); }
+        Key key = new Key(messageTemplate, variables, locale);
+        Segment segment = segments[(key.hash ^ (key.hash >>> 16)) & (SEGMENT_COUNT - 1)];
+        String message;
+        synchronized (segment) {
+            message = segment.get(key);
+        }
+        if (message != null) {
+            hits.increment();
+            return message;
+        }
+        misses.increment();
+        message = formatter.get();
+        synchronized (segment) {
+            segment.put(key, message);
+        }
+        return message;
+    }
+
+    /** Clear the cache(statistics will be kept). */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Get statistics of the cache.
+     *
+     * @return statistics of the cache
+     */
+    public Stats getStats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    /** Statistics of the cache. */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Stats {
+
+        /** Number of hits. */
+        private final long hits;
+        /** Number of misses. */
+        private final long misses;
+        /** Number of evictions. */
+        private final long evictions;
+        /** Number of cached messages. */
+        private final int size;
+
+        /**
+         * Get hit rate.
+         *
+         * @return hit rate, or {@code 0} if the cache has never been requested
+         */
+        public double getHitRate() {
+            long requests = hits + misses;
+            return (requests == 0) ? 0 : ((double) hits / requests);
+        }
+
+    }
+
+    // #################### internal utils ################################################
+
+    /** Key of cached message. */
+    private static final class Key {
+
+        /** Message template. */
+        private final String messageTemplate;
+        /** Variables. */
+        private final VariableValueMap variables;
+        /** Locale. */
+        private final Locale locale;
+        /** Hash. */
+        private final int hash;
+
+        private Key(String messageTemplate, VariableValueMap variables, Locale locale) {
+            this.messageTemplate = messageTemplate;
+            this.variables = variables;
+            this.locale = locale;
+            int hash = messageTemplate.hashCode();
+            hash = 31 * hash + variables.hashCode();
+            this.hash = 31 * hash + locale.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) { return true; }
+            if (!(o instanceof Key)) { return false; }
+            Key that = (Key) o;
+            return hash == that.hash
+                    && messageTemplate.equals(that.messageTemplate)
+                    && locale.equals(that.locale)
+                    && variables.equals(that.variables);
+        }
+
+    }
+
+    /** Segment(LRU). */
+    private final class Segment extends LinkedHashMap<Key, String> {
+
+        private static final long serialVersionUID = 6318240211623087561L;
+
+        private Segment() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+            if (size() <= Math.max(maxSize / SEGMENT_COUNT, 1)) { return false; }
+            evictions.increment();
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.failure;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Indicator list.
+ *
+ * <p>Indicator list is persistent and unmodifiable: appending an indicator returns a new list which shares all previous
+ * indicators with the original one. The indicators are in the order of appending(i.e. from the innermost to the
+ * outermost).
+ *
+ * @author wautsns
+ * @since Jul 25, 2020
+ * @see ValidationFailure#addIndicator(Object)
+ */
+public final class IndicatorList extends AbstractList<Object> implements Serializable {
+
+    private static final long serialVersionUID = 3408123539016429347L;
+
+    /** Indicators appended before the last one, or {@code null} if absent. */
+    private final IndicatorList previous;
+    /** Last indicator. */
+    private final Object last;
+    /** Size of the list. */
+    private final int size;
+    /** Indicators in order, assembled lazily. */
+    private transient volatile Object[] indicators;
+
+    /**
+     * Construct an indicator list.
+     *
+     * @param previous indicators appended before the last one
+     * @param last last indicator
+     */
+    private IndicatorList(IndicatorList previous, Object last) {
+        this.previous = previous;
+        this.last = last;
+        this.size = (previous == null) ? 1 : (previous.size + 1);
+    }
+
+    /**
+     * Return an indicator list containing the specified indicator.
+     *
+     * @param indicator indicator
+     * @return an indicator list containing the specified indicator
+     */
+    public static IndicatorList of(Object indicator) {
+        return new IndicatorList(null, indicator);
+    }
+
+    /**
+     * Return an indicator list containing the specified indicators.
+     *
+     * @param indicators indicators
+     * @return an indicator list containing the specified indicators, or {@code null} if the indicators is empty
+     */
+    public static IndicatorList copyOf(List<?> indicators) {
+        if (indicators instanceof IndicatorList) { return (IndicatorList) indicators; }
+        IndicatorList copy = null;
+        for (Object indicator : indicators) {
+            copy = new IndicatorList(copy, indicator);
+        }
+        return copy;
+    }
+
+    /**
+     * Append the indicator.
+     *
+     * @param indicator indicator
+     * @return new indicator list
+     */
+    public IndicatorList append(Object indicator) {
+        return new IndicatorList(this, indicator);
+    }
+
+    @Override
+    public Object get(int index) {
+        if (index == size - 1) { return last; }
+        if (index < 0 || index >= size) { throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size); }
+        return getIndicators()[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // #################### internal utils ################################################
+
+    /**
+     * Get indicators in order.
+     *
+     * @return indicators in order
+     */
+    private Object[] getIndicators() {
+        Object[] indicators = this.indicators;
+        if (indicators == null) {
+            indicators = new Object[size];
+            IndicatorList list = this;
+            for (int i = size - 1; i >= 0; i--) {
+                indicators[i] = list.last;
+                list = list.previous;
+            }
+            this.indicators = indicators;
+        }
+        return indicators;
+    }
+
+}
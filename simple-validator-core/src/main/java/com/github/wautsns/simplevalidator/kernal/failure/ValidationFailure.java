@@ -21,7 +21,6 @@ import com.github.wautsns.templatemessage.variable.Variable;
 import com.github.wautsns.templatemessage.variable.VariableValueMap;
 import lombok.experimental.UtilityClass;
 
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -66,12 +65,21 @@ public class ValidationFailure extends TemplateMessage {
      */
     public ValidationFailure addIndicator(Object indicator) {
         List<Object> indicators = getValue(Variables.INDICATORS);
-        if (indicators == null) {
-            indicators = new LinkedList<>();
-            put(Variables.INDICATORS, indicators);
-        }
-        indicators.add(indicator);
-        return this;
+        IndicatorList previous = (indicators == null) ? null : IndicatorList.copyOf(indicators);
+        return put(Variables.INDICATORS, (previous == null) ? IndicatorList.of(indicator) : previous.append(indicator));
+    }
+
+    /**
+     * Copy the validation failure.
+     *
+     * <p>Values of variables are copied shallowly(location and indicators are persistent).
+     *
+     * @return copy of the validation failure
+     */
+    public ValidationFailure copy() {
+        // the copy is empty after removing the value, so it shares the variables until either is modified
+        ValidationFailure copy = new ValidationFailure(null).remove(Variables.VALUE);
+        return copy.put(this).setMessageTemplate(getMessageTemplate());
     }
 
     @Override
@@ -105,6 +113,9 @@ public class ValidationFailure extends TemplateMessage {
          * <li>map[key] =&gt; indicator is key</li>
          * <li>customize...</li>
          * </ul>
+         *
+         * <p>Indicators are from the innermost to the outermost, and the value is an unmodifiable {@link IndicatorList}
+         * if indicators are added by {@link ValidationFailure#addIndicator(Object)}.
          */
         public static final Variable<List<Object>> INDICATORS = new Variable<>("indicators");
 
@@ -20,10 +20,16 @@ import com.github.wautsns.templatemessage.kernel.TemplateMessageFormatter;
 import com.github.wautsns.templatemessage.kernel.processor.SpelTemplateMessageFormattingProcessor;
 import com.github.wautsns.templatemessage.kernel.processor.VariableTemplateMessageFormattingProcessor;
 import com.github.wautsns.templatemessage.kernel.processor.messagesource.ReloadableResourceTemplateMessageFormattingProcessor;
+import com.github.wautsns.templatemessage.kernel.processor.messagesource.ResourceSnapshotTemplateMessageFormattingProcessor;
 import com.github.wautsns.templatemessage.variable.Variable;
+import com.github.wautsns.templatemessage.variable.VariableValueMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Validation failure formatter.
@@ -52,8 +58,26 @@ public class ValidationFailureFormatter extends TemplateMessageFormatter {
     /** Variable(value) placeholder. */
     private static final String PLACEHOLDER_VARIABLE_VALUE = "$$" + ValidationFailure.Variables.VALUE + "$$";
 
+    /** Default max size of the message cache. */
+    private static final int DEFAULT_MESSAGE_CACHE_MAX_SIZE = 1024;
+
     /** Reloadable resource template message formatting processor. */
     private final ReloadableResourceTemplateMessageFormattingProcessor reloadableResourceTemplateMessageFormattingProcessor;
+    /** Resource snapshot template message formatting processor, or {@code null} if not used. */
+    private volatile ResourceSnapshotTemplateMessageFormattingProcessor resourceSnapshotTemplateMessageFormattingProcessor;
+    /**
+     * Message cache.
+     *
+     * <p>Messages are cached before the value is substituted, so failures of the same constraint at the same location
+     * share the message. The cache is cleared when a processor is added or message resources are loaded, and is
+     * bypassed while any added {@link ReloadableResourceTemplateMessageFormattingProcessor} is
+     * {@linkplain ReloadableResourceTemplateMessageFormattingProcessor#isReloading() reloading} changed resources.
+     */
+    private final FormattedMessageCache messageCache = new FormattedMessageCache(DEFAULT_MESSAGE_CACHE_MAX_SIZE);
+    /** Added reloadable resource processors, whose resources may change behind the message cache. */
+    @Getter(AccessLevel.NONE)
+    private final List<ReloadableResourceTemplateMessageFormattingProcessor> reloadableProcessors =
+            new CopyOnWriteArrayList<>();
 
     /**
      * Construct a validation failure formatter.
@@ -79,7 +103,20 @@ public class ValidationFailureFormatter extends TemplateMessageFormatter {
 
     @Override
     public ValidationFailureFormatter addProcessor(int order, Processor processor) {
-        return (ValidationFailureFormatter) super.addProcessor(order, processor);
+        super.addProcessor(order, processor);
+        if (processor instanceof ReloadableResourceTemplateMessageFormattingProcessor) {
+            reloadableProcessors.add((ReloadableResourceTemplateMessageFormattingProcessor) processor);
+        }
+        messageCache.clear();
+        return this;
+    }
+
+    @Override
+    public ValidationFailureFormatter removeProcessor(Processor processor) {
+        super.removeProcessor(processor);
+        reloadableProcessors.removeIf(p -> p == processor);
+        messageCache.clear();
+        return this;
     }
 
     /**
@@ -89,23 +126,69 @@ public class ValidationFailureFormatter extends TemplateMessageFormatter {
      * @return self reference
      * @see ReloadableResourceTemplateMessageFormattingProcessor#loadMessageResources(String...)
      */
-    public ValidationFailureFormatter loadMessageResources(String... baseNames) {
+    public synchronized ValidationFailureFormatter loadMessageResources(String... baseNames) {
         reloadableResourceTemplateMessageFormattingProcessor.loadMessageResources(baseNames);
+        if (resourceSnapshotTemplateMessageFormattingProcessor != null) {
+            resourceSnapshotTemplateMessageFormattingProcessor.loadMessageResources(baseNames);
+        }
+        messageCache.clear();
         return this;
     }
 
+    /**
+     * Look up message resources in a lock-free snapshot instead of the reloadable resource bundle.
+     *
+     * <p>Message resources loaded so far will be loaded into the snapshot, and so will those loaded later. The message
+     * cache will be cleared whenever the snapshot is reloaded.
+     *
+     * @return the resource snapshot processor, eg. to {@linkplain
+     *         ResourceSnapshotTemplateMessageFormattingProcessor#startWatching() watch} the resources
+     * @see ResourceSnapshotTemplateMessageFormattingProcessor
+     */
+    public synchronized ResourceSnapshotTemplateMessageFormattingProcessor useResourceSnapshot() {
+        if (resourceSnapshotTemplateMessageFormattingProcessor != null) {
+            return resourceSnapshotTemplateMessageFormattingProcessor;
+        }
+        ResourceSnapshotTemplateMessageFormattingProcessor processor =
+                new ResourceSnapshotTemplateMessageFormattingProcessor(RELOADED_RESOURCE_LD, RELOADED_RESOURCE_RD);
+        // base names are in descending order of priority, which is kept by loading them at once
+        Set<String> baseNames = reloadableResourceTemplateMessageFormattingProcessor.getMessageSource().getBasenameSet();
+        processor.loadMessageResources(baseNames.toArray(new String[0]));
+        processor.addReloadListener(messageCache::clear);
+        removeProcessor(reloadableResourceTemplateMessageFormattingProcessor);
+        addProcessor(3000, processor);
+        resourceSnapshotTemplateMessageFormattingProcessor = processor;
+        return processor;
+    }
+
     @Override
     public String format(TemplateMessage templateMessage, Locale locale) {
-        // Prevent spel expression injection.
         Variable<Object> valueVariable = templateMessage.getVariable(ValidationFailure.Variables.VALUE.getName());
         Object value = templateMessage.getValue(valueVariable);
         String valueInStringFormat = valueVariable.getFormatter().format(value, locale);
-        templateMessage.remove(valueVariable);
-        // Do format.
-        String result = super.format(templateMessage, locale).replace(PLACEHOLDER_VARIABLE_VALUE, valueInStringFormat);
-        // Put back variable of value.
-        templateMessage.put(valueVariable, value);
-        return result;
+        // Prevent spel expression injection: the value is invisible to processors, and is substituted at last.
+        // The template message is not modified, so it can be formatted concurrently.
+        String messageTemplate = templateMessage.getMessageTemplate();
+        VariableValueMap variables = templateMessage.copyWithout(valueVariable);
+        String result = isReloading()
+                ? super.format(messageTemplate, variables, locale)
+                : messageCache.get(
+                        messageTemplate, variables, locale, () -> super.format(messageTemplate, variables, locale));
+        return result.replace(PLACEHOLDER_VARIABLE_VALUE, valueInStringFormat);
+    }
+
+    // #################### internal utils ################################################
+
+    /**
+     * Return whether any added reloadable resource processor is reloading changed resources.
+     *
+     * @return {@code true} if any added reloadable resource processor is reloading, otherwise {@code false}
+     */
+    private boolean isReloading() {
+        for (ReloadableResourceTemplateMessageFormattingProcessor processor : reloadableProcessors) {
+            if (processor.isReloading()) { return true; }
+        }
+        return false;
     }
 
 }
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.failure;
+
+import com.github.wautsns.simplevalidator.kernal.node.ConstrainedNode;
+import com.github.wautsns.templatemessage.variable.Variable;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validation failure json writer.
+ *
+ * <p>The failure is written as is, without formatting the message, eg.
+ *
+ * <pre>
+ * {
+ *   "code": "VMin",
+ *   "messageTemplate": "[`VMin`]",
+ *   "location": ["User", "#age"],
+ *   "indicators": [],
+ *   "variables": {"value": 17, "min": "18", "inclusive": true}
+ * }
+ * </pre>
+ *
+ * <ul>
+ * <li>{@code code} is the key of the message resource if the message template is a single resource placeholder(eg.
+ * {@code [`VMin`]}), otherwise {@code null}.</li>
+ * <li>{@code location} is the node names of the {@link ValidationFailure.Variables#LOCATION location}, and
+ * {@code indicators} is the {@link ValidationFailure.Variables#INDICATORS indicators} from the innermost to the
+ * outermost.</li>
+ * <li>{@code variables} contains the other variables in insertion order. Numbers, booleans, texts, enums(name),
+ * arrays, iterables and maps are written structurally, dates and calendars are written as ISO-8601 strings, values
+ * nested deeper than {@value #MAX_DEPTH} are written as {@code null}, and other values are written as their
+ * {@code toString()}.</li>
+ * </ul>
+ *
+ * <p>Values are capped the same way as {@code IterableFormatter} by default: at most {@value #MAX_ELEMENTS} elements
+ * of an array, iterable or map are written, followed by {@code "...(N in total)"}(the total count is omitted if it
+ * is unknown, eg. lazy iterables, which are never iterated beyond the cap), and strings longer than
+ * {@value #MAX_LENGTH} chars are truncated with {@code "..."}. The caps of nested values multiply, so the whole json
+ * is capped at about {@value #MAX_TOTAL_LENGTH} chars too: once it is reached, the remaining elements are omitted
+ * and the remaining values are written as {@code "..."}(only the omissions and closing brackets exceed it).
+ *
+ * @author wautsns
+ * @since Jul 28, 2020
+ */
+@UtilityClass
+public class ValidationFailureJsonWriter {
+
+    /** Max depth of nested values. */
+    public static final int MAX_DEPTH = 16;
+    /** Max number of elements of an array, iterable or map. */
+    public static final int MAX_ELEMENTS = 100;
+    /** Max number of chars of a string. */
+    public static final int MAX_LENGTH = 2000;
+    /** Max number of chars of the whole json(except omissions and closing brackets). */
+    public static final int MAX_TOTAL_LENGTH = 65536;
+    /** Ellipsis of the omitted elements or chars. */
+    public static final String ELLIPSIS = "...";
+    /** Format of total count after the ellipsis. */
+    public static final String TOTAL_COUNT_FORMAT = "(%d in total)";
+
+    /**
+     * Write the failure as json in UTF-8.
+     *
+     * <p>The stream will be flushed but not closed.
+     *
+     * @param failure failure
+     * @param out output stream
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(ValidationFailure failure, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        write(failure, writer);
+        writer.flush();
+    }
+
+    /**
+     * Write the failure as json.
+     *
+     * @param failure failure
+     * @param appendable appendable
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(ValidationFailure failure, Appendable appendable) throws IOException {
+        CappedOutput out = new CappedOutput(appendable, MAX_TOTAL_LENGTH);
+        out.append("{\"code\":");
+        writeCode(failure.getMessageTemplate(), out);
+        out.append(",\"messageTemplate\":");
+        writeValue(failure.getMessageTemplate(), out, 0);
+        out.append(",\"location\":");
+        writeValue(failure.getValue(ValidationFailure.Variables.LOCATION), out, 0);
+        out.append(",\"indicators\":");
+        List<Object> indicators = failure.getValue(ValidationFailure.Variables.INDICATORS);
+        if (indicators == null) {
+            out.append("[]");
+        } else {
+            writeValue(indicators, out, 0);
+        }
+        out.append(",\"variables\":{");
+        try {
+            boolean[] first = { true };
+            failure.forEach((variable, value) -> {
+                if (isLocationOrIndicators(variable)) { return; }
+                try {
+                    if (!first[0]) { out.append(','); }
+                    first[0] = false;
+                    writeUncappedString(variable.getName(), out);
+                    out.append(':');
+                    writeValue(value, out, 1);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.append("}}");
+    }
+
+    // #################### internal utils ##############################################
+
+    /**
+     * Return whether the variable is location or indicators, which are written separately.
+     *
+     * @param variable variable
+     * @return {@code true} if the variable is location or indicators, otherwise {@code false}
+     */
+    private static boolean isLocationOrIndicators(Variable<?> variable) {
+        return variable.equals(ValidationFailure.Variables.LOCATION)
+                || variable.equals(ValidationFailure.Variables.INDICATORS);
+    }
+
+    /**
+     * Write the code, i.e. key of the message resource if the message template is like {@code [`key`]}.
+     *
+     * @param messageTemplate message template
+     * @param out output
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeCode(String messageTemplate, CappedOutput out) throws IOException {
+        String ld = ValidationFailureFormatter.RELOADED_RESOURCE_LD;
+        String rd = ValidationFailureFormatter.RELOADED_RESOURCE_RD;
+        if (messageTemplate == null
+                || messageTemplate.length() <= ld.length() + rd.length()
+                || !messageTemplate.startsWith(ld)
+                || !messageTemplate.endsWith(rd)
+                || messageTemplate.indexOf(rd, ld.length()) != messageTemplate.length() - rd.length()) {
+            out.append("null");
+        } else {
+            writeString(messageTemplate, ld.length(), messageTemplate.length() - rd.length(), out);
+        }
+    }
+
+    /**
+     * Write the value.
+     *
+     * @param value value
+     * @param out output
+     * @param depth depth of the value
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeValue(Object value, CappedOutput out, int depth) throws IOException {
+        if (value == null || depth > MAX_DEPTH) {
+            out.append("null");
+        } else if (out.isExhausted()) {
+            writeString(ELLIPSIS, out);
+        } else if (value instanceof CharSequence) {
+            writeString((CharSequence) value, out);
+        } else if (value instanceof Boolean) {
+            out.append(value.toString());
+        } else if (value instanceof Number) {
+            writeNumber((Number) value, out);
+        } else if (value instanceof Character) {
+            writeString(String.valueOf((char) (Character) value), out);
+        } else if (value instanceof Enum) {
+            writeString(((Enum<?>) value).name(), out);
+        } else if (value instanceof ConstrainedNode.Location) {
+            writeValue(((ConstrainedNode.Location) value).getNodeNameList(), out, depth);
+        } else if (value instanceof Date) {
+            writeString(Instant.ofEpochMilli(((Date) value).getTime()).toString(), out);
+        } else if (value instanceof Calendar) {
+            Calendar calendar = (Calendar) value;
+            ZonedDateTime time = calendar.toInstant().atZone(calendar.getTimeZone().toZoneId());
+            writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(time), out);
+        } else if (value instanceof Iterable) {
+            long totalCount = (value instanceof Collection) ? ((Collection<?>) value).size() : -1;
+            writeElements(((Iterable<?>) value).iterator(), totalCount, out, depth);
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.append('{');
+            Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+            int count = 0;
+            for (; count < MAX_ELEMENTS && iterator.hasNext() && !out.isExhausted(); count++) {
+                if (count > 0) { out.append(','); }
+                Map.Entry<?, ?> entry = iterator.next();
+                Object key = entry.getKey();
+                writeString((key instanceof CharSequence) ? (CharSequence) key : String.valueOf(key), out);
+                out.append(':');
+                writeValue(entry.getValue(), out, depth + 1);
+            }
+            if (iterator.hasNext()) {
+                // the omission is written as an entry whose key is the ellipsis
+                if (count > 0) { out.append(','); }
+                writeUncappedString(ELLIPSIS, out);
+                out.append(':');
+                writeUncappedString(String.format(TOTAL_COUNT_FORMAT, map.size()), out);
+            }
+            out.append('}');
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            out.append('[');
+            int count = 0;
+            for (int l = Math.min(length, MAX_ELEMENTS); count < l && !out.isExhausted(); count++) {
+                if (count > 0) { out.append(','); }
+                writeValue(Array.get(value, count), out, depth + 1);
+            }
+            if (count < length) { writeOmission(length, count > 0, out); }
+            out.append(']');
+        } else if (value instanceof Class) {
+            writeString(((Class<?>) value).getName(), out);
+        } else {
+            writeString(value.toString(), out);
+        }
+    }
+
+    /**
+     * Write the elements as a json array.
+     *
+     * @param iterator iterator of elements
+     * @param totalCount total count of elements, or {@code -1} if it is unknown
+     * @param out output
+     * @param depth depth of the iterable
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeElements(Iterator<?> iterator, long totalCount, CappedOutput out, int depth)
+            throws IOException {
+        out.append('[');
+        int count = 0;
+        for (; count < MAX_ELEMENTS && iterator.hasNext() && !out.isExhausted(); count++) {
+            if (count > 0) { out.append(','); }
+            writeValue(iterator.next(), out, depth + 1);
+        }
+        if (iterator.hasNext()) { writeOmission(totalCount, count > 0, out); }
+        out.append(']');
+    }
+
+    /**
+     * Write the omission of the elements as the last element, eg. {@code ,"...(1000 in total)"}.
+     *
+     * @param totalCount total count of elements, or {@code -1} if it is unknown
+     * @param delimited whether a delimiter should be written before the omission
+     * @param out output
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeOmission(long totalCount, boolean delimited, CappedOutput out) throws IOException {
+        if (delimited) { out.append(','); }
+        writeUncappedString(
+                (totalCount < 0) ? ELLIPSIS : ELLIPSIS + String.format(TOTAL_COUNT_FORMAT, totalCount), out);
+    }
+
+    /**
+     * Write the number.
+     *
+     * <p>{@code NaN} and infinities are not valid json numbers, so they are written as strings.
+     *
+     * @param number number
+     * @param out output
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeNumber(Number number, CappedOutput out) throws IOException {
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                writeString(number.toString(), out);
+            } else {
+                out.append(number.toString());
+            }
+        } else if (number instanceof BigDecimal || number instanceof BigInteger
+                || number instanceof Long || number instanceof Integer
+                || number instanceof Short || number instanceof Byte) {
+            out.append(number.toString());
+        } else {
+            // eg. AtomicLong, or customized numbers whose string format is unknown
+            writeString(number.toString(), out);
+        }
+    }
+
+    /**
+     * Write the text as a json string.
+     *
+     * <p>Text longer than {@value #MAX_LENGTH} chars or the remaining chars of the output is truncated(without
+     * splitting a surrogate pair), and followed by the {@value #ELLIPSIS}.
+     *
+     * @param text text
+     * @param out output
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeString(CharSequence text, CappedOutput out) throws IOException {
+        int length = text.length();
+        int maxLength = Math.min(MAX_LENGTH, out.getRemaining());
+        if (length <= maxLength) {
+            writeString(text, 0, length, out);
+            return;
+        }
+        int end = (maxLength > 0 && Character.isHighSurrogate(text.charAt(maxLength - 1))) ? maxLength - 1 : maxLength;
+        StringBuilder truncated = new StringBuilder(end + ELLIPSIS.length()).append(text, 0, end).append(ELLIPSIS);
+        writeString(truncated, 0, truncated.length(), out);
+    }
+
+    /**
+     * Write the text as a json string without truncating it, eg. omissions, variable names.
+     *
+     * @param text text
+     * @param out output
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeUncappedString(String text, CappedOutput out) throws IOException {
+        writeString(text, 0, text.length(), out);
+    }
+
+    /**
+     * Write the subtext as a json string.
+     *
+     * @param text text
+     * @param start start index(inclusive)
+     * @param end end index(exclusive)
+     * @param out output
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeString(CharSequence text, int start, int end, CappedOutput out) throws IOException {
+        out.append('"');
+        // unescaped chars are appended in runs, line/paragraph separators are escaped for embedding in scripts
+        int runStart = start;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') { continue; }
+            out.append(text, runStart, i);
+            runStart = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                default:
+                    out.append("\\u");
+                    for (int shift = 12; shift >= 0; shift -= 4) {
+                        out.append(Character.forDigit((c >> shift) & 0xF, 16));
+                    }
+            }
+        }
+        out.append(text, runStart, end);
+        out.append('"');
+    }
+
+    /** Output which counts the appended chars against the {@linkplain #MAX_TOTAL_LENGTH total length}. */
+    private static final class CappedOutput implements Appendable {
+
+        /** Appendable. */
+        private final Appendable appendable;
+        /** Number of chars which can still be appended, negative if it is exceeded. */
+        private int remaining;
+
+        /**
+         * Construct a capped output.
+         *
+         * @param appendable appendable
+         * @param maxLength max number of chars to be appended
+         */
+        private CappedOutput(Appendable appendable, int maxLength) {
+            this.appendable = appendable;
+            this.remaining = maxLength;
+        }
+
+        /**
+         * Return whether the max number of chars has been reached.
+         *
+         * @return {@code true} if the max number of chars has been reached, otherwise {@code false}
+         */
+        private boolean isExhausted() {
+            return remaining <= 0;
+        }
+
+        /**
+         * Get number of chars which can still be appended.
+         *
+         * @return number of chars which can still be appended
+         */
+        private int getRemaining() {
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public CappedOutput append(CharSequence text) throws IOException {
+            appendable.append(text);
+            remaining -= text.length();
+            return this;
+        }
+
+        @Override
+        public CappedOutput append(CharSequence text, int start, int end) throws IOException {
+            appendable.append(text, start, end);
+            remaining -= end - start;
+            return this;
+        }
+
+        @Override
+        public CappedOutput append(char c) throws IOException {
+            appendable.append(c);
+            remaining--;
+            return this;
+        }
+
+    }
+
+}
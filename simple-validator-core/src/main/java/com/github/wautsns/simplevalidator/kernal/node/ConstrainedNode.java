@@ -21,7 +21,6 @@ import com.github.wautsns.simplevalidator.kernal.constraint.Constraint;
 import com.github.wautsns.simplevalidator.kernal.criterion.wrapper.CriterionWrapper;
 import com.github.wautsns.simplevalidator.kernal.extractor.value.basic.ValueExtractor;
 import com.github.wautsns.simplevalidator.util.common.CollectionUtils;
-import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -29,7 +28,10 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -206,14 +208,24 @@ public abstract class ConstrainedNode {
 
     // #################### utils #######################################################
 
-    /** Node location. */
-    @EqualsAndHashCode(of = "nodeNames")
+    /**
+     * Node location.
+     *
+     * <p>Location is persistent: a child location references its parent, and a grafted location references both
+     * locations, so no node names are copied. Node names and the string representation are assembled lazily.
+     */
     public static class Location implements Serializable {
 
-        private static final long serialVersionUID = 6613571499661573545L;
+        private static final long serialVersionUID = -2311906453386264417L;
 
-        /** Node names. */
-        private final LinkedList<String> nodeNames = new LinkedList<>();
+        /** Parent location, or {@code null} if the location is a root. */
+        private final Location parent;
+        /** Last node name, or {@code null} if the location is grafted. */
+        private final String nodeName;
+        /** Location grafted onto the parent(without its root), or {@code null} if the location is not grafted. */
+        private final Location graft;
+        /** Node names, assembled lazily. */
+        private transient volatile String[] nodeNames;
 
         /**
          * Construct a root location.
@@ -221,7 +233,7 @@ public abstract class ConstrainedNode {
          * @param nodeName node name
          */
         public Location(String nodeName) {
-            nodeNames.add(nodeName);
+            this(null, nodeName, null);
         }
 
         /**
@@ -231,8 +243,7 @@ public abstract class ConstrainedNode {
          * @param nodeName node name
          */
         public Location(ConstrainedNode parent, String nodeName) {
-            nodeNames.addAll(parent.getLocation().nodeNames);
-            nodeNames.add(nodeName);
+            this(parent.getLocation(), nodeName, null);
         }
 
         /**
@@ -241,7 +252,32 @@ public abstract class ConstrainedNode {
          * @param nodeNames node names
          */
         public Location(List<String> nodeNames) {
-            this.nodeNames.addAll(nodeNames);
+            this(toParent(nodeNames), nodeNames.get(nodeNames.size() - 1), null);
+        }
+
+        /**
+         * Construct a node location.
+         *
+         * @param parent parent location
+         * @param nodeName node name
+         * @param graft location grafted onto the parent
+         */
+        private Location(Location parent, String nodeName, Location graft) {
+            this.parent = parent;
+            this.nodeName = nodeName;
+            this.graft = graft;
+        }
+
+        /**
+         * Graft the location(without its root) onto this location.
+         *
+         * <p>eg. {@code Order#address} graft {@code Address#city} ==&gt; {@code Order#address#city}
+         *
+         * @param location location to be grafted
+         * @return grafted location
+         */
+        public Location graft(Location location) {
+            return new Location(this, null, location);
         }
 
         /**
@@ -250,7 +286,18 @@ public abstract class ConstrainedNode {
          * @return node names
          */
         public LinkedList<String> copyNodeNames() {
-            return new LinkedList<>(nodeNames);
+            LinkedList<String> copy = new LinkedList<>();
+            Collections.addAll(copy, getNodeNames());
+            return copy;
+        }
+
+        /**
+         * Get node names.
+         *
+         * @return node names(unmodifiable)
+         */
+        public List<String> getNodeNameList() {
+            return Collections.unmodifiableList(Arrays.asList(getNodeNames()));
         }
 
         /**
@@ -259,7 +306,9 @@ public abstract class ConstrainedNode {
          * @return simple name of the location
          */
         public String getSimpleName() {
-            return nodeNames.getLast();
+            if (nodeName != null) { return nodeName; }
+            String[] nodeNames = getNodeNames();
+            return nodeNames[nodeNames.length - 1];
         }
 
         /**
@@ -269,7 +318,77 @@ public abstract class ConstrainedNode {
          */
         @Override
         public String toString() {
-            return String.join("", nodeNames);
+            return String.join("", getNodeNames());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) { return true; }
+            if (!(obj instanceof Location)) { return false; }
+            return Arrays.equals(getNodeNames(), ((Location) obj).getNodeNames());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(getNodeNames());
+        }
+
+        /**
+         * Get node names.
+         *
+         * @return node names
+         */
+        private String[] getNodeNames() {
+            String[] nodeNames = this.nodeNames;
+            if (nodeNames == null) { this.nodeNames = nodeNames = assembleNodeNames(); }
+            return nodeNames;
+        }
+
+        /**
+         * Assemble node names.
+         *
+         * <p>Locations may be nested deeply, so the locations are walked with an explicit stack.
+         *
+         * @return node names
+         */
+        private String[] assembleNodeNames() {
+            LinkedList<String> nodeNames = new LinkedList<>();
+            // pending locations and whether their roots are skipped, pushed in pairs
+            Deque<Object> pending = new ArrayDeque<>();
+            Location location = this;
+            boolean skipRoot = false;
+            while (true) {
+                if (location.graft != null) {
+                    pending.push(skipRoot);
+                    pending.push(location.parent);
+                    location = location.graft;
+                    skipRoot = true;
+                    continue;
+                }
+                if (location.parent != null || !skipRoot) { nodeNames.addFirst(location.nodeName); }
+                if (location.parent != null) {
+                    location = location.parent;
+                } else if (!pending.isEmpty()) {
+                    location = (Location) pending.pop();
+                    skipRoot = (Boolean) pending.pop();
+                } else {
+                    return nodeNames.toArray(new String[0]);
+                }
+            }
+        }
+
+        /**
+         * Convert node names(except the last one) to a location.
+         *
+         * @param nodeNames node names
+         * @return location, or {@code null} if there is only one node name
+         */
+        private static Location toParent(List<String> nodeNames) {
+            Location parent = null;
+            for (int i = 0, l = nodeNames.size() - 1; i < l; i++) {
+                parent = new Location(parent, nodeNames.get(i), null);
+            }
+            return parent;
         }
 
     }
@@ -18,9 +18,12 @@ package com.github.wautsns.simplevalidator.kernal.node;
 import com.github.wautsns.simplevalidator.kernal.extractor.type.basic.AnnotatedTypeExtractor;
 import com.github.wautsns.simplevalidator.kernal.extractor.type.basic.AnnotatedTypeExtractorForAnnotatedArrayType;
 import com.github.wautsns.simplevalidator.kernal.extractor.type.builtin.AnnotatedTypeExtractorForIterableElement;
+import com.github.wautsns.simplevalidator.kernal.extractor.type.builtin.AnnotatedTypeExtractorForIteratorElement;
 import com.github.wautsns.simplevalidator.kernal.extractor.type.builtin.AnnotatedTypeExtractorForMapKey;
 import com.github.wautsns.simplevalidator.kernal.extractor.type.builtin.AnnotatedTypeExtractorForMapValue;
 import com.github.wautsns.simplevalidator.kernal.extractor.type.builtin.AnnotatedTypeExtractorForOptionalValue;
+import com.github.wautsns.simplevalidator.kernal.extractor.type.builtin.AnnotatedTypeExtractorForSpliteratorElement;
+import com.github.wautsns.simplevalidator.kernal.extractor.type.builtin.AnnotatedTypeExtractorForStreamElement;
 import com.github.wautsns.simplevalidator.util.common.CollectionUtils;
 import lombok.Getter;
 
@@ -121,6 +124,9 @@ public abstract class ConstrainedTypeContainer extends ConstrainedNode {
         addAnnotatedTypeExtractor(3000, AnnotatedTypeExtractorForMapValue.INSTANCE);
         addAnnotatedTypeExtractor(4000, AnnotatedTypeExtractorForAnnotatedArrayType.INSTANCE);
         addAnnotatedTypeExtractor(5000, AnnotatedTypeExtractorForOptionalValue.INSTANCE);
+        addAnnotatedTypeExtractor(6000, AnnotatedTypeExtractorForStreamElement.INSTANCE);
+        addAnnotatedTypeExtractor(7000, AnnotatedTypeExtractorForIteratorElement.INSTANCE);
+        addAnnotatedTypeExtractor(8000, AnnotatedTypeExtractorForSpliteratorElement.INSTANCE);
     }
 
     /**
@@ -133,6 +139,9 @@ public abstract class ConstrainedTypeContainer extends ConstrainedNode {
      *   3000: {@link AnnotatedTypeExtractorForMapValue#INSTANCE}
      *   4000: {@link AnnotatedTypeExtractorForAnnotatedArrayType#INSTANCE}
      *   5000: {@link AnnotatedTypeExtractorForOptionalValue#INSTANCE}
+     *   6000: {@link AnnotatedTypeExtractorForStreamElement#INSTANCE}
+     *   7000: {@link AnnotatedTypeExtractorForIteratorElement#INSTANCE}
+     *   8000: {@link AnnotatedTypeExtractorForSpliteratorElement#INSTANCE}
      * </pre>
      *
      * @param order order
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.util.valuehandle;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+
+/**
+ * Numeric text scanner.
+ *
+ * <p>Numeric texts are validated and compared directly on their characters. As long as the significant digits of the
+ * text fit in a {@code long}, no object will be allocated. Otherwise, the text will be compared as a {@code BigDecimal}.
+ *
+ * @author wautsns
+ * @since Mar 11, 2020
+ */
+@UtilityClass
+public class NumericTextScanner {
+
+    /** Result of {@link #compare(CharSequence, Reference)} if the text is not numeric. */
+    public static final int NOT_NUMERIC = Integer.MIN_VALUE;
+
+    /**
+     * Whether the text is a plain numeric text like {@code -12.34}.
+     *
+     * <p>The grammar is {@code [-+]?\d+(?:[.]\d+)?}.
+     *
+     * @param text text
+     * @return {@code true} if the text is a plain numeric text, otherwise {@code false}
+     */
+    public static boolean isPlainNumericText(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        if (length > 0 && isSign(text.charAt(0))) { i++; }
+        int integerStart = i;
+        while (i < length && isDigit(text.charAt(i))) { i++; }
+        if (i == integerStart) { return false; }
+        if (i == length) { return true; }
+        if (text.charAt(i++) != '.') { return false; }
+        int fractionStart = i;
+        while (i < length && isDigit(text.charAt(i))) { i++; }
+        return i == length && i > fractionStart;
+    }
+
+    /**
+     * Compile the numeric text as a reference to be compared.
+     *
+     * @param text numeric text, the syntax is the same as {@link BigDecimal#BigDecimal(String)}
+     * @return reference
+     * @throws NumberFormatException if the text is not numeric
+     */
+    public static Reference compile(String text) {
+        return new Reference(new BigDecimal(text));
+    }
+
+    /**
+     * Compare the numeric text with the reference.
+     *
+     * <p>The syntax of the text is the same as {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param text numeric text
+     * @param reference reference
+     * @return a negative integer, zero, or a positive integer as the text is less than, equal to, or greater than the
+     *         reference, or {@link #NOT_NUMERIC} if the text is not numeric
+     */
+    public static int compare(CharSequence text, Reference reference) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && isSign(text.charAt(0))) {
+            negative = (text.charAt(0) == '-');
+            i++;
+        }
+        long unscaled = 0;
+        long scale = 0;
+        int significantDigits = 0;
+        boolean overflow = false;
+        boolean hasDigits = false;
+        boolean hasPoint = false;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                hasDigits = true;
+                if (hasPoint) { scale++; }
+                int digit = c - '0';
+                if (unscaled == 0 && digit == 0) { continue; }
+                if (significantDigits == MAX_SIGNIFICANT_DIGITS) {
+                    overflow = true;
+                } else {
+                    unscaled = unscaled * 10 + digit;
+                    significantDigits++;
+                }
+            } else if (c == '.' && !hasPoint) {
+                hasPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (!hasDigits) { return NOT_NUMERIC; }
+        if (i < length) {
+            char c = text.charAt(i++);
+            if (c != 'e' && c != 'E') { return NOT_NUMERIC; }
+            boolean negativeExponent = false;
+            if (i < length && isSign(text.charAt(i))) { negativeExponent = (text.charAt(i++) == '-'); }
+            int exponentStart = i;
+            long exponent = 0;
+            for (; i < length; i++) {
+                c = text.charAt(i);
+                if (!isDigit(c)) { return NOT_NUMERIC; }
+                if (exponent > Integer.MAX_VALUE) {
+                    overflow = true;
+                } else {
+                    exponent = exponent * 10 + (c - '0');
+                }
+            }
+            if (i == exponentStart) { return NOT_NUMERIC; }
+            scale += negativeExponent ? exponent : -exponent;
+        }
+        if (overflow || !reference.compact) { return compareAsBigDecimal(text, reference); }
+        return compare(negative ? -unscaled : unscaled, scale, reference.unscaled, reference.scale);
+    }
+
+    // #################### internal utils ################################################
+
+    /** Max significant digits of the fast path, {@code 10^18 - 1 < Long.MAX_VALUE}. */
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+    /** Powers of ten which can be represented by {@code long}. */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Compare {@code unscaled1 * 10^-scale1} with {@code unscaled2 * 10^-scale2}.
+     *
+     * @param unscaled1 unscaled value 1
+     * @param scale1 scale 1
+     * @param unscaled2 unscaled value 2
+     * @param scale2 scale 2
+     * @return result of comparison
+     */
+    private static int compare(long unscaled1, long scale1, long unscaled2, long scale2) {
+        if (scale1 == scale2) { return Long.compare(unscaled1, unscaled2); }
+        if (scale1 < scale2) { return -compare(unscaled2, scale2, unscaled1, scale1); }
+        // rescale unscaled2 to scale1, if it overflows, its magnitude is larger than unscaled1
+        if (unscaled2 == 0) { return Long.signum(unscaled1); }
+        long diff = scale1 - scale2;
+        if (diff < POWERS_OF_TEN.length) {
+            long power = POWERS_OF_TEN[(int) diff];
+            long magnitude = Math.abs(unscaled2);
+            if (magnitude >= 0 && magnitude <= Long.MAX_VALUE / power) {
+                return Long.compare(unscaled1, unscaled2 * power);
+            }
+        }
+        return -Long.signum(unscaled2);
+    }
+
+    /**
+     * Compare the numeric text with the reference as {@code BigDecimal}.
+     *
+     * @param text numeric text(the syntax has been validated)
+     * @param reference reference
+     * @return result of comparison
+     */
+    private static int compareAsBigDecimal(CharSequence text, Reference reference) {
+        try {
+            return new BigDecimal(text.toString()).compareTo(reference.value);
+        } catch (NumberFormatException e) {
+            // the exponent is out of the range of int
+            return NOT_NUMERIC;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSign(char c) {
+        return c == '-' || c == '+';
+    }
+
+    // #################### reference ###################################################
+
+    /** Compiled numeric text to be compared. */
+    public static final class Reference implements Comparable<Reference> {
+
+        /** Value. */
+        private final BigDecimal value;
+        /** Whether the unscaled value can be represented by {@code long}. */
+        private final boolean compact;
+        /** Unscaled value. */
+        private final long unscaled;
+        /** Scale. */
+        private final long scale;
+
+        /**
+         * Construct a reference.
+         *
+         * @param value value
+         */
+        private Reference(BigDecimal value) {
+            this.value = value;
+            this.compact = value.unscaledValue().bitLength() < Long.SIZE;
+            this.unscaled = compact ? value.unscaledValue().longValue() : 0;
+            this.scale = value.scale();
+        }
+
+        /**
+         * Get value.
+         *
+         * @return value
+         */
+        public BigDecimal getValue() {
+            return value;
+        }
+
+        @Override
+        public int compareTo(Reference reference) {
+            return value.compareTo(reference.value);
+        }
+
+    }
+
+}
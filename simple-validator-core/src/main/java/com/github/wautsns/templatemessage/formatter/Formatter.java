@@ -15,6 +15,7 @@
  */
 package com.github.wautsns.templatemessage.formatter;
 
+import java.io.IOException;
 import java.util.Locale;
 
 /**
@@ -45,4 +46,18 @@ public interface Formatter<T> {
      */
     String format(T value, Locale locale);
 
+    /**
+     * Format value with the specified locale, and append the result to the appendable.
+     *
+     * <p>Formatters for large values(eg. collections) stream the result instead of building the whole string.
+     *
+     * @param value value
+     * @param locale locale
+     * @param appendable appendable
+     * @throws IOException if an I/O error occurs
+     */
+    default void formatTo(T value, Locale locale, Appendable appendable) throws IOException {
+        appendable.append(format(value, locale));
+    }
+
 }
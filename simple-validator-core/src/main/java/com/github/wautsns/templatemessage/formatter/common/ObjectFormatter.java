@@ -22,6 +22,7 @@ import com.github.wautsns.templatemessage.formatter.multival.MapFormatter;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
+import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
 
@@ -61,4 +62,18 @@ public class ObjectFormatter implements Formatter<Object> {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void formatTo(Object value, Locale locale, Appendable appendable) throws IOException {
+        if (value != null && value.getClass().isArray()) {
+            ArrayFormatter.DEFAULT.formatTo(value, locale, appendable);
+        } else if (value instanceof Iterable) {
+            IterableFormatter.DEFAULT.formatTo((Iterable<Object>) value, locale, appendable);
+        } else if (value instanceof Map) {
+            MapFormatter.DEFAULT.formatTo((Map<Object, Object>) value, locale, appendable);
+        } else {
+            appendable.append(format(value, locale));
+        }
+    }
+
 }
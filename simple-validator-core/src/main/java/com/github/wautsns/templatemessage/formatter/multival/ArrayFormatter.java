@@ -20,6 +20,7 @@ import com.github.wautsns.templatemessage.formatter.common.ObjectFormatter;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.Locale;
 
@@ -54,23 +55,46 @@ public class ArrayFormatter<A, C> implements Formatter<A> {
     private String delimiter = ", ";
     /** Formatter for component, default is {@link ObjectFormatter#DEFAULT}. */
     private Formatter<? super C> componentFormatter = ObjectFormatter.DEFAULT;
+    /** Max number of components to be formatted, default is {@code 100}. */
+    private int maxComponents = 100;
+    /** Max number of chars of the components(including delimiters) to be formatted, default is {@code 2000}. */
+    private int maxLength = 2000;
+    /** Ellipsis of the omitted components, default is {@code "..."}. */
+    private String ellipsis = "...";
+    /** Format of total count after the ellipsis, default is {@code "(%d in total)"}. */
+    private String totalCountFormat = "(%d in total)";
 
     @Override
-    @SuppressWarnings("unchecked")
     public String format(A value, Locale locale) {
-        if (value == null) { return stringFormatOfNull; }
+        return CappedAppender.toString(appendable -> formatTo(value, locale, appendable));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void formatTo(A value, Locale locale, Appendable appendable) throws IOException {
+        if (value == null) {
+            appendable.append(stringFormatOfNull);
+            return;
+        }
         int length = Array.getLength(value);
-        if (length == 0) { return stringFormatOfEmptyArray; }
-        StringBuilder result = new StringBuilder();
-        result.append(prefix);
-        for (int i = 0; i < length; i++) {
+        if (length == 0) {
+            appendable.append(stringFormatOfEmptyArray);
+            return;
+        }
+        appendable.append(prefix);
+        CappedAppender capped = new CappedAppender(appendable, maxLength);
+        int i = 0;
+        for (; i < length && i < maxComponents; i++) {
+            if (i > 0 && !capped.append(delimiter)) { break; }
             String component = componentFormatter.format((C) Array.get(value, i), locale);
-            result.append(componentPrefix).append(component).append(componentSuffix);
-            result.append(delimiter);
+            if (!capped.append(componentPrefix) || !capped.append(component) || !capped.append(componentSuffix)) {
+                break;
+            }
+        }
+        if (i < length || capped.isTruncated()) {
+            capped.appendOmission(delimiter, ellipsis, totalCountFormat, length);
         }
-        result.delete(result.length() - delimiter.length(), result.length());
-        result.append(suffix);
-        return result.toString();
+        appendable.append(suffix);
     }
 
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.templatemessage.formatter.multival;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Appender which appends at most the specified number of chars.
+ *
+ * @author wautsns
+ * @since Jul 28, 2020
+ */
+final class CappedAppender {
+
+    /** Appendable. */
+    private final Appendable appendable;
+    /** Number of chars which can still be appended. */
+    private int remaining;
+    /** Whether some chars have been dropped. */
+    private boolean truncated;
+
+    /**
+     * Construct a capped appender.
+     *
+     * @param appendable appendable
+     * @param maxLength max number of chars to be appended
+     */
+    CappedAppender(Appendable appendable, int maxLength) {
+        this.appendable = appendable;
+        this.remaining = maxLength;
+    }
+
+    /**
+     * Append the text, the exceeding chars will be dropped.
+     *
+     * @param text text
+     * @return {@code true} if the whole text is appended, otherwise {@code false}
+     * @throws IOException if an I/O error occurs
+     */
+    boolean append(CharSequence text) throws IOException {
+        if (truncated) { return false; }
+        int length = text.length();
+        if (length <= remaining) {
+            appendable.append(text);
+            remaining -= length;
+            return true;
+        }
+        appendable.append(text, 0, remaining);
+        remaining = 0;
+        truncated = true;
+        return false;
+    }
+
+    /**
+     * Return whether some chars have been dropped.
+     *
+     * @return {@code true} if some chars have been dropped, otherwise {@code false}
+     */
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Append the omission.
+     *
+     * @param delimiter delimiter before the ellipsis if the last element is complete
+     * @param ellipsis ellipsis
+     * @param totalCountFormat format of total count
+     * @param totalCount total count, or {@code -1} if unknown
+     * @throws IOException if an I/O error occurs
+     */
+    void appendOmission(String delimiter, String ellipsis, String totalCountFormat, long totalCount)
+            throws IOException {
+        if (!truncated) { appendable.append(delimiter); }
+        appendable.append(ellipsis);
+        if (totalCount >= 0) { appendable.append(String.format(totalCountFormat, totalCount)); }
+    }
+
+    /**
+     * Format to string by the streaming formatter.
+     *
+     * @param streamingFormatter streaming formatter
+     * @return string format
+     */
+    static String toString(StreamingFormatter streamingFormatter) {
+        StringBuilder result = new StringBuilder();
+        try {
+            streamingFormatter.formatTo(result);
+        } catch (IOException e) {
+            // never happens with string builder
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    /** Streaming formatter. */
+    @FunctionalInterface
+    interface StreamingFormatter {
+
+        /**
+         * Format to the appendable.
+         *
+         * @param appendable appendable
+         * @throws IOException if an I/O error occurs
+         */
+        void formatTo(Appendable appendable) throws IOException;
+
+    }
+
+}
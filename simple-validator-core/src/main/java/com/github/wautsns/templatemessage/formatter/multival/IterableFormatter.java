@@ -20,6 +20,8 @@ import com.github.wautsns.templatemessage.formatter.common.ObjectFormatter;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Locale;
 
@@ -53,22 +55,46 @@ public class IterableFormatter<E> implements Formatter<Iterable<E>> {
     private String elementDelimiter = ", ";
     /** Formatter for iterable element, default is {@link ObjectFormatter#DEFAULT}. */
     private Formatter<? super E> elementFormatter = ObjectFormatter.DEFAULT;
+    /** Max number of elements to be formatted, default is {@code 100}. */
+    private int maxElements = 100;
+    /** Max number of chars of the elements(including delimiters) to be formatted, default is {@code 2000}. */
+    private int maxLength = 2000;
+    /** Ellipsis of the omitted elements, default is {@code "..."}. */
+    private String ellipsis = "...";
+    /** Format of total count after the ellipsis, default is {@code "(%d in total)"}. */
+    private String totalCountFormat = "(%d in total)";
 
     @Override
     public String format(Iterable<E> value, Locale locale) {
-        if (value == null) { return stringFormatOfNull; }
+        return CappedAppender.toString(appendable -> formatTo(value, locale, appendable));
+    }
+
+    @Override
+    public void formatTo(Iterable<E> value, Locale locale, Appendable appendable) throws IOException {
+        if (value == null) {
+            appendable.append(stringFormatOfNull);
+            return;
+        }
         Iterator<E> iterator = value.iterator();
-        if (!iterator.hasNext()) { return stringFormatOfEmptyIterable; }
-        StringBuilder result = new StringBuilder();
-        result.append(prefix);
-        do {
+        if (!iterator.hasNext()) {
+            appendable.append(stringFormatOfEmptyIterable);
+            return;
+        }
+        appendable.append(prefix);
+        CappedAppender capped = new CappedAppender(appendable, maxLength);
+        for (int i = 0; i < maxElements && iterator.hasNext(); i++) {
+            if (i > 0 && !capped.append(elementDelimiter)) { break; }
             String element = elementFormatter.format(iterator.next(), locale);
-            result.append(elementPrefix).append(element).append(elementSuffix);
-            result.append(elementDelimiter);
-        } while (iterator.hasNext());
-        result.delete(result.length() - elementDelimiter.length(), result.length());
-        result.append(suffix);
-        return result.toString();
+            if (!capped.append(elementPrefix) || !capped.append(element) || !capped.append(elementSuffix)) {
+                break;
+            }
+        }
+        if (iterator.hasNext() || capped.isTruncated()) {
+            // the total count of iterable(not collection) is unknown without traversing the rest
+            long totalCount = (value instanceof Collection) ? ((Collection<?>) value).size() : -1;
+            capped.appendOmission(elementDelimiter, ellipsis, totalCountFormat, totalCount);
+        }
+        appendable.append(suffix);
     }
 
 }
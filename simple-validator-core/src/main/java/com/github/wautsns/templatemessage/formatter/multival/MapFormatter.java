@@ -20,6 +20,8 @@ import com.github.wautsns.templatemessage.formatter.common.ObjectFormatter;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 
@@ -62,24 +64,50 @@ public class MapFormatter<K, V> implements Formatter<Map<K, V>> {
     private Formatter<? super K> keyFormatter = ObjectFormatter.DEFAULT;
     /** Formatter for value, default is {@link ObjectFormatter#DEFAULT}. */
     private Formatter<? super V> valueFormatter = ObjectFormatter.DEFAULT;
+    /** Max number of entries to be formatted, default is {@code 100}. */
+    private int maxEntries = 100;
+    /** Max number of chars of the entries(including delimiters) to be formatted, default is {@code 2000}. */
+    private int maxLength = 2000;
+    /** Ellipsis of the omitted entries, default is {@code "..."}. */
+    private String ellipsis = "...";
+    /** Format of total count after the ellipsis, default is {@code "(%d in total)"}. */
+    private String totalCountFormat = "(%d in total)";
 
     @Override
     public String format(Map<K, V> value, Locale locale) {
-        if (value == null) { return stringFormatOfNull; }
-        if (value.isEmpty()) { return stringFormatOfEmptyMap; }
-        StringBuilder result = new StringBuilder();
-        result.append(prefix);
-        for (Map.Entry<K, V> entry : value.entrySet()) {
-            String key = keyFormatter.format(entry.getKey(), locale);
-            String val = valueFormatter.format(entry.getValue(), locale);
-            result.append(keyPrefix).append(key).append(keySuffix);
-            result.append(keyValueDelimiter);
-            result.append(valuePrefix).append(val).append(valueSuffix);
-            result.append(delimiter);
+        return CappedAppender.toString(appendable -> formatTo(value, locale, appendable));
+    }
+
+    @Override
+    public void formatTo(Map<K, V> value, Locale locale, Appendable appendable) throws IOException {
+        if (value == null) {
+            appendable.append(stringFormatOfNull);
+            return;
+        }
+        if (value.isEmpty()) {
+            appendable.append(stringFormatOfEmptyMap);
+            return;
+        }
+        appendable.append(prefix);
+        CappedAppender capped = new CappedAppender(appendable, maxLength);
+        Iterator<Map.Entry<K, V>> iterator = value.entrySet().iterator();
+        for (int i = 0; i < maxEntries && iterator.hasNext(); i++) {
+            if (i > 0 && !capped.append(delimiter)) { break; }
+            Map.Entry<K, V> entry = iterator.next();
+            if (!capped.append(keyPrefix)
+                    || !capped.append(keyFormatter.format(entry.getKey(), locale))
+                    || !capped.append(keySuffix)
+                    || !capped.append(keyValueDelimiter)
+                    || !capped.append(valuePrefix)
+                    || !capped.append(valueFormatter.format(entry.getValue(), locale))
+                    || !capped.append(valueSuffix)) {
+                break;
+            }
+        }
+        if (iterator.hasNext() || capped.isTruncated()) {
+            capped.appendOmission(delimiter, ellipsis, totalCountFormat, value.size());
         }
-        result.delete(result.length() - delimiter.length(), result.length());
-        result.append(suffix);
-        return result.toString();
+        appendable.append(suffix);
     }
 
 }
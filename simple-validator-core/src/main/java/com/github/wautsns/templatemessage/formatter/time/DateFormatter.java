@@ -20,6 +20,9 @@ import com.github.wautsns.templatemessage.formatter.time.util.TimeFormatterUtils
 import lombok.Data;
 import lombok.experimental.Accessors;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.FormatStyle;
 import java.util.Date;
 import java.util.Locale;
@@ -27,6 +30,9 @@ import java.util.Locale;
 /**
  * Formatter for {@code Date} value.
  *
+ * <p>Dates are formatted in the system default time zone by cached {@code DateTimeFormatter}s, which are immutable
+ * and thread-safe.
+ *
  * @author wautsns
  * @since Mar 10, 2020
  */
@@ -50,9 +56,11 @@ public class DateFormatter implements Formatter<Date> {
     public String format(Date value, Locale locale) {
         if (value == null) { return stringWhenNull; }
         if (specifiedLocale != null) { locale = specifiedLocale; }
-        return TimeFormatterUtils.DateFormats
+        // epoch millis instead of Date#toInstant(), which is unsupported by java.sql.Date and java.sql.Time
+        ZonedDateTime dateTime = Instant.ofEpochMilli(value.getTime()).atZone(ZoneId.systemDefault());
+        return TimeFormatterUtils.DateTimeFormatters
                 .forDateAndTime(dateFormatStyle, timeFormatStyle, locale)
-                .format(value);
+                .format(dateTime);
     }
 
 }
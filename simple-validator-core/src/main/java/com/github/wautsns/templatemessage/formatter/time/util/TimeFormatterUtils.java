@@ -35,7 +35,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @UtilityClass
 public class TimeFormatterUtils {
 
-    /** Utils for {@link DateFormat}. */
+    /**
+     * Utils for {@link DateFormat}.
+     *
+     * <p>{@code DateFormat} is expensive to create and not thread-safe, prefer {@link DateTimeFormatters}.
+     */
     @UtilityClass
     public static class DateFormats {
 
@@ -119,6 +123,19 @@ public class TimeFormatterUtils {
         private static final EnumMap<FormatStyle, EnumMap<FormatStyle, Map<Locale, DateTimeFormatter>>> CACHE_DATE_TIME =
                 new EnumMap<>(FormatStyle.class);
 
+        static {
+            // enum maps are not thread-safe, so they are filled eagerly and only read later
+            for (FormatStyle style : FormatStyle.values()) {
+                CACHE_ONLY_DATE.put(style, new ConcurrentHashMap<>());
+                CACHE_ONLY_TIME.put(style, new ConcurrentHashMap<>());
+                EnumMap<FormatStyle, Map<Locale, DateTimeFormatter>> cacheForDate = new EnumMap<>(FormatStyle.class);
+                for (FormatStyle timeStyle : FormatStyle.values()) {
+                    cacheForDate.put(timeStyle, new ConcurrentHashMap<>());
+                }
+                CACHE_DATE_TIME.put(style, cacheForDate);
+            }
+        }
+
         /**
          * Get {@link DateTimeFormatter} for displaying date and time.
          *
@@ -134,8 +151,8 @@ public class TimeFormatterUtils {
             if (dateFormatStyle == null) { return forTime(timeFormatStyle, locale); }
             if (timeFormatStyle == null) { return forDate(dateFormatStyle, locale); }
             return CACHE_DATE_TIME
-                    .computeIfAbsent(dateFormatStyle, i -> new EnumMap<>(FormatStyle.class))
-                    .computeIfAbsent(timeFormatStyle, i -> new ConcurrentHashMap<>())
+                    .get(dateFormatStyle)
+                    .get(timeFormatStyle)
                     .computeIfAbsent(
                             Objects.requireNonNull(locale),
                             loc -> DateTimeFormatter
@@ -152,7 +169,7 @@ public class TimeFormatterUtils {
          */
         public static DateTimeFormatter forDate(FormatStyle formatStyle, Locale locale) {
             return CACHE_ONLY_DATE
-                    .computeIfAbsent(Objects.requireNonNull(formatStyle), i -> new ConcurrentHashMap<>())
+                    .get(Objects.requireNonNull(formatStyle))
                     .computeIfAbsent(
                             Objects.requireNonNull(locale),
                             loc -> DateTimeFormatter.ofLocalizedDate(formatStyle).withLocale(loc));
@@ -167,7 +184,7 @@ public class TimeFormatterUtils {
          */
         public static DateTimeFormatter forTime(FormatStyle formatStyle, Locale locale) {
             return CACHE_ONLY_TIME
-                    .computeIfAbsent(Objects.requireNonNull(formatStyle), i -> new ConcurrentHashMap<>())
+                    .get(Objects.requireNonNull(formatStyle))
                     .computeIfAbsent(
                             Objects.requireNonNull(locale),
                             loc -> DateTimeFormatter.ofLocalizedTime(formatStyle).withLocale(loc));
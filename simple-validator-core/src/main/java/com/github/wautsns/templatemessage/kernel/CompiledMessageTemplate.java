@@ -0,0 +1,241 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.templatemessage.kernel;
+
+import com.github.wautsns.templatemessage.variable.VariableValueMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Compiled message template.
+ *
+ * <p>A message template is parsed once into segments: literals and placeholders. A placeholder is the text between
+ * the delimiters of a processor, and may contain placeholders of other processors, which will be processed first.
+ * Formatting is a single append pass over the segments.
+ *
+ * @author wautsns
+ * @since Jul 27, 2020
+ */
+public final class CompiledMessageTemplate {
+
+    /** Max nesting level of templates returned by processors. */
+    private static final int MAX_NESTING_LEVEL = 16;
+
+    /** Segments. */
+    private final Segment[] segments;
+    /** Literal text if the template has no placeholder, otherwise {@code null}. */
+    private final String literal;
+
+    private CompiledMessageTemplate(List<Segment> segments) {
+        this.segments = segments.toArray(new Segment[0]);
+        if (this.segments.length == 0) {
+            this.literal = "";
+        } else if (this.segments.length == 1 && this.segments[0] instanceof Literal) {
+            this.literal = ((Literal) this.segments[0]).text;
+        } else {
+            this.literal = null;
+        }
+    }
+
+    /**
+     * Compile the message template.
+     *
+     * <p>If the left delimiters of several processors match at the same position, the first processor wins.
+     * Placeholders without right delimiter are treated as literals.
+     *
+     * @param messageTemplate message template
+     * @param processors processors(in order)
+     * @return compiled message template
+     */
+    public static CompiledMessageTemplate compile(
+            String messageTemplate, List<TemplateMessageFormatter.Processor> processors) {
+        Deque<Frame> frames = new ArrayDeque<>();
+        frames.push(new Frame(null));
+        int length = messageTemplate.length();
+        int i = 0;
+        outer:
+        while (i < length) {
+            Frame top = frames.peek();
+            if (top.processor != null && messageTemplate.startsWith(top.processor.getRightDelimiter(), i)) {
+                frames.pop();
+                frames.peek().add(new Placeholder(top.processor, top.toTemplate()));
+                i += top.processor.getRightDelimiter().length();
+                continue;
+            }
+            for (TemplateMessageFormatter.Processor processor : processors) {
+                if (messageTemplate.startsWith(processor.getLeftDelimiter(), i)) {
+                    frames.push(new Frame(processor));
+                    i += processor.getLeftDelimiter().length();
+                    continue outer;
+                }
+            }
+            top.append(messageTemplate.charAt(i++));
+        }
+        while (frames.size() > 1) {
+            Frame unclosed = frames.pop();
+            Frame parent = frames.peek();
+            parent.append(unclosed.processor.getLeftDelimiter());
+            parent.addAll(unclosed);
+        }
+        return frames.pop().toTemplate();
+    }
+
+    /**
+     * Append the formatted message to the string builder.
+     *
+     * @param sb string builder
+     * @param variableValueMap variable value map
+     * @param locale locale
+     * @param compiler compiler for the templates returned by processors
+     * @see TemplateMessageFormatter.Processor#isResultTemplate()
+     */
+    public void appendTo(
+            StringBuilder sb, VariableValueMap variableValueMap, Locale locale,
+            Function<String, CompiledMessageTemplate> compiler) {
+        appendTo(sb, variableValueMap, locale, compiler, 0);
+    }
+
+    // #################### internal utils ################################################
+
+    /**
+     * Append the formatted message to the string builder.
+     *
+     * @param sb string builder
+     * @param variableValueMap variable value map
+     * @param locale locale
+     * @param compiler compiler for the templates returned by processors
+     * @param nestingLevel nesting level
+     */
+    private void appendTo(
+            StringBuilder sb, VariableValueMap variableValueMap, Locale locale,
+            Function<String, CompiledMessageTemplate> compiler, int nestingLevel) {
+        if (literal != null) {
+            sb.append(literal);
+            return;
+        }
+        for (Segment segment : segments) {
+            if (segment instanceof Literal) {
+                sb.append(((Literal) segment).text);
+                continue;
+            }
+            Placeholder placeholder = (Placeholder) segment;
+            TemplateMessageFormatter.Processor processor = placeholder.processor;
+            String text = placeholder.text.literal;
+            if (text == null) {
+                // resolve the text at the end of the string builder, then cut it off
+                int start = sb.length();
+                placeholder.text.appendTo(sb, variableValueMap, locale, compiler, nestingLevel);
+                text = sb.substring(start);
+                sb.setLength(start);
+            }
+            String value = processor.process(text.trim(), variableValueMap, locale);
+            if (value == null) {
+                sb.append(processor.getLeftDelimiter()).append(text).append(processor.getRightDelimiter());
+            } else if (processor.isResultTemplate() && nestingLevel < MAX_NESTING_LEVEL) {
+                compiler.apply(value).appendTo(sb, variableValueMap, locale, compiler, nestingLevel + 1);
+            } else {
+                sb.append(value);
+            }
+        }
+    }
+
+    /** Segment of template. */
+    private interface Segment {}
+
+    /** Literal segment. */
+    private static final class Literal implements Segment {
+
+        /** Text. */
+        private final String text;
+
+        private Literal(String text) {
+            this.text = text;
+        }
+
+    }
+
+    /** Placeholder segment. */
+    private static final class Placeholder implements Segment {
+
+        /** Processor. */
+        private final TemplateMessageFormatter.Processor processor;
+        /** Text between delimiters. */
+        private final CompiledMessageTemplate text;
+
+        private Placeholder(TemplateMessageFormatter.Processor processor, CompiledMessageTemplate text) {
+            this.processor = processor;
+            this.text = text;
+        }
+
+    }
+
+    /** Frame of parsing. */
+    private static final class Frame {
+
+        /** Processor of the placeholder, or {@code null} if root. */
+        private final TemplateMessageFormatter.Processor processor;
+        /** Parsed segments. */
+        private final List<Segment> segments = new ArrayList<>();
+        /** Pending literal. */
+        private final StringBuilder literal = new StringBuilder();
+
+        private Frame(TemplateMessageFormatter.Processor processor) {
+            this.processor = processor;
+        }
+
+        private void append(char c) {
+            literal.append(c);
+        }
+
+        private void append(String text) {
+            literal.append(text);
+        }
+
+        private void add(Segment segment) {
+            flush();
+            segments.add(segment);
+        }
+
+        private void addAll(Frame frame) {
+            frame.flush();
+            for (Segment segment : frame.segments) {
+                if (segment instanceof Literal) {
+                    append(((Literal) segment).text);
+                } else {
+                    add(segment);
+                }
+            }
+        }
+
+        private CompiledMessageTemplate toTemplate() {
+            flush();
+            return new CompiledMessageTemplate(segments);
+        }
+
+        private void flush() {
+            if (literal.length() == 0) { return; }
+            segments.add(new Literal(literal.toString()));
+            literal.setLength(0);
+        }
+
+    }
+
+}
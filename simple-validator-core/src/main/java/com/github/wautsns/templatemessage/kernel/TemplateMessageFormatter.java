@@ -19,22 +19,41 @@ import com.github.wautsns.templatemessage.formatter.Formatter;
 import com.github.wautsns.templatemessage.variable.VariableValueMap;
 import lombok.Data;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Formatter for {@code TemplateMessage} value.
  *
+ * <p>Every distinct message template is {@linkplain CompiledMessageTemplate compiled} once and cached, so formatting
+ * is a single append pass. Results of processors are literals, unless the processor
+ * {@linkplain Processor#isResultTemplate() returns templates}(eg. message resources, formatted variables), in which
+ * case the results will be compiled(and cached) too.
+ *
  * @author wautsns
  * @since Mar 10, 2020
  */
 public class TemplateMessageFormatter implements Formatter<TemplateMessage> {
 
+    /** Max number of cached compiled templates. */
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+    /** Max capacity of the scratch buffer to be reused. */
+    private static final int MAX_SCRATCH_BUFFER_CAPACITY = 8192;
+    /** Scratch buffer per thread, {@code null} while it is in use. */
+    private static final ThreadLocal<StringBuilder> SCRATCH_BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(256));
+
     /** Ordered processors map. */
     private final Map<Integer, Collection<Processor>> orderedProcessorsMap = new ConcurrentSkipListMap<>();
+    /** Processors in order and templates compiled with them, replaced when a processor is added or removed. */
+    private volatile Compilation compilation = new Compilation(Collections.emptyList());
 
     /**
      * Add a processor.
@@ -45,10 +64,23 @@ public class TemplateMessageFormatter implements Formatter<TemplateMessage> {
      * @param processor processor
      * @return self reference
      */
-    public TemplateMessageFormatter addProcessor(int order, Processor processor) {
+    public synchronized TemplateMessageFormatter addProcessor(int order, Processor processor) {
         orderedProcessorsMap
                 .computeIfAbsent(order, i -> new ConcurrentLinkedQueue<>())
                 .add(processor);
+        refreshProcessors();
+        return this;
+    }
+
+    /**
+     * Remove the processor.
+     *
+     * @param processor processor(compared by identity)
+     * @return self reference
+     */
+    public synchronized TemplateMessageFormatter removeProcessor(Processor processor) {
+        orderedProcessorsMap.values().forEach(queue -> queue.removeIf(p -> p == processor));
+        refreshProcessors();
         return this;
     }
 
@@ -61,7 +93,46 @@ public class TemplateMessageFormatter implements Formatter<TemplateMessage> {
      */
     @Override
     public String format(TemplateMessage templateMessage, Locale locale) {
-        return process(templateMessage.getMessageTemplate(), templateMessage, locale);
+        return format(templateMessage.getMessageTemplate(), templateMessage, locale);
+    }
+
+    /**
+     * Format the message template with the specified variables and locale.
+     *
+     * <p>The variables will not be modified, so the same variables can be formatted concurrently.
+     *
+     * @param messageTemplate message template
+     * @param variableValueMap variable value map
+     * @param locale locale
+     * @return value in string format
+     */
+    public String format(String messageTemplate, VariableValueMap variableValueMap, Locale locale) {
+        StringBuilder sb = SCRATCH_BUFFER.get();
+        if (sb == null) {
+            // reentrant formatting(eg. by a formatter of variable value)
+            sb = new StringBuilder();
+        } else {
+            SCRATCH_BUFFER.set(null);
+            sb.setLength(0);
+        }
+        try {
+            // templates returned by processors are compiled with the same processors
+            Compilation compilation = this.compilation;
+            compilation.compile(messageTemplate).appendTo(sb, variableValueMap, locale, compilation::compile);
+            return sb.toString();
+        } finally {
+            if (sb.capacity() <= MAX_SCRATCH_BUFFER_CAPACITY) { SCRATCH_BUFFER.set(sb); }
+        }
+    }
+
+    /**
+     * Compile the message template.
+     *
+     * @param messageTemplate message template
+     * @return compiled message template
+     */
+    public CompiledMessageTemplate compile(String messageTemplate) {
+        return compilation.compile(messageTemplate);
     }
 
     /** Processor when formatting variable values. */
@@ -83,67 +154,63 @@ public class TemplateMessageFormatter implements Formatter<TemplateMessage> {
          */
         public abstract String process(String text, VariableValueMap variableValueMap, Locale locale);
 
+        /**
+         * Return whether the string returned by {@link #process(String, VariableValueMap, Locale)} is a template
+         * which should be formatted too.
+         *
+         * @return {@code true} if the result is a template, otherwise {@code false}(default)
+         */
+        public boolean isResultTemplate() {
+            return false;
+        }
+
     }
 
     // #################### internal utils ################################################
 
-    /**
-     * Process the wip of the message.
-     *
-     * @param wip wip of the message
-     * @param variableValueMap variable value map
-     * @param locale locale
-     * @return message after processing
-     */
-    private String process(CharSequence wip, VariableValueMap variableValueMap, Locale locale) {
-        StringBuilder tmp = new StringBuilder(wip);
-        orderedProcessorsMap.forEach(
-                (order, processors) -> processors.forEach(
-                        processor -> process(tmp, processor, variableValueMap, locale)));
-        if (tmp.length() != wip.length()) {
-            return process(tmp, variableValueMap, locale);
-        } else {
-            for (int i = 0; i < tmp.length(); i++) {
-                if (tmp.charAt(i) != wip.charAt(i)) {
-                    return process(tmp, variableValueMap, locale);
-                }
-            }
-            return tmp.toString();
-        }
+    /** Refresh processors in order, compiled templates will be discarded. */
+    private void refreshProcessors() {
+        List<Processor> newProcessors = new ArrayList<>();
+        orderedProcessorsMap.values().forEach(newProcessors::addAll);
+        compilation = new Compilation(Collections.unmodifiableList(newProcessors));
     }
 
     /**
-     * Process the wip of the message with the specified processor.
+     * Processors and templates compiled with them.
      *
-     * @param wip wip of the message
-     * @param processor processor
-     * @param variableValueMap variable value map
-     * @param locale locale
+     * <p>They are replaced together, so a template compiled with stale processors(eg. concurrently with
+     * {@link #removeProcessor(Processor)}) is only cached in the discarded compilation.
      */
-    private void process(StringBuilder wip, Processor processor, VariableValueMap variableValueMap, Locale locale) {
-        int si;
-        int ei = 0;
-        String ld = processor.getLeftDelimiter();
-        String rd = processor.getRightDelimiter();
-        while (true) {
-            si = wip.indexOf(ld, ei);
-            if (si == -1) { return; }
-            ei = wip.indexOf(rd, si + ld.length());
-            if (ei == -1) { return; }
-            int tmpEi = ei;
-            while (tmpEi != -1) {
-                String name = wip.substring(si + ld.length(), tmpEi).trim();
-                String value = processor.process(name, variableValueMap, locale);
-                if (value == null) {
-                    ei = si + 1;
-                    tmpEi = wip.indexOf(rd, tmpEi + 1);
-                } else {
-                    wip.replace(si, tmpEi + rd.length(), value);
-                    ei = si + value.length();
-                    break;
-                }
-            }
+    private static final class Compilation {
+
+        /** Processors in order. */
+        private final List<Processor> processors;
+        /** Compiled templates. */
+        private final Map<String, CompiledMessageTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+        /**
+         * Construct a compilation.
+         *
+         * @param processors processors in order
+         */
+        private Compilation(List<Processor> processors) {
+            this.processors = processors;
         }
+
+        /**
+         * Compile the message template.
+         *
+         * @param messageTemplate message template
+         * @return compiled message template
+         */
+        private CompiledMessageTemplate compile(String messageTemplate) {
+            CompiledMessageTemplate compiled = compiledTemplates.get(messageTemplate);
+            if (compiled != null) { return compiled; }
+            compiled = CompiledMessageTemplate.compile(messageTemplate, processors);
+            if (compiledTemplates.size() < MAX_CACHED_TEMPLATES) { compiledTemplates.put(messageTemplate, compiled); }
+            return compiled;
+        }
+
     }
 
 }
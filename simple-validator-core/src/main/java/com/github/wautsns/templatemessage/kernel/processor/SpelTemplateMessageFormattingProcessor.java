@@ -19,27 +19,45 @@ import com.github.wautsns.templatemessage.kernel.TemplateMessageFormatter;
 import com.github.wautsns.templatemessage.variable.VariableValueMap;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.CodeFlow;
+import org.springframework.expression.spel.CompilablePropertyAccessor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.DataBindingPropertyAccessor;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Template message formatting processor for Spel(Spring expression language).
  *
+ * <p>Parsed expressions(including the texts which cannot be parsed) are cached, and the expressions will be compiled
+ * in {@link SpelCompilerMode#MIXED mixed} mode once they are hot.
+ *
  * @author wautsns
  * @since Mar 10, 2020
  */
-@ToString
-@EqualsAndHashCode(callSuper = true)
+@ToString(exclude = "expressions")
+@EqualsAndHashCode(callSuper = true, exclude = "expressions")
 public class SpelTemplateMessageFormattingProcessor extends TemplateMessageFormatter.Processor {
 
+    /** Max number of cached expressions. */
+    private static final int MAX_CACHED_EXPRESSIONS = 1024;
+
+    /** Cached expressions: text -&gt; expression, {@link #UNPARSABLE} if the text cannot be parsed. */
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
     /**
      * Construct a spelTemplateMessageFormattingProcessor.
      *
@@ -52,13 +70,10 @@ public class SpelTemplateMessageFormattingProcessor extends TemplateMessageForma
 
     @Override
     public String process(String text, VariableValueMap variableValueMap, Locale locale) {
+        Expression expr = getExpression(text);
+        if (expr == UNPARSABLE) { return null; }
         try {
-            Expression expr = SPEL_PARSER.parseExpression(text);
-            SimpleEvaluationContext ctx = SimpleEvaluationContext
-                    .forPropertyAccessors(PROPERTY_ACCESSORS)
-                    .withRootObject(variableValueMap)
-                    .build();
-            return expr.getValue(ctx, String.class);
+            return expr.getValue(EVALUATION_CONTEXT, variableValueMap, String.class);
         } catch (Exception e) {
             return null;
         }
@@ -67,18 +82,50 @@ public class SpelTemplateMessageFormattingProcessor extends TemplateMessageForma
     // #################### internal utils ################################################
 
     /** Spel expression parser. */
-    private static final ExpressionParser SPEL_PARSER = new SpelExpressionParser();
+    private static final ExpressionParser SPEL_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(
+                    SpelCompilerMode.MIXED, SpelTemplateMessageFormattingProcessor.class.getClassLoader()));
+
+    /** Placeholder of the texts which cannot be parsed. */
+    private static final Expression UNPARSABLE = new LiteralExpression("");
 
     /** Property accessors. */
     private static final PropertyAccessor[] PROPERTY_ACCESSORS = new PropertyAccessor[]{
             new VariableValueMapAccessor(), DataBindingPropertyAccessor.forReadOnlyAccess()
     };
 
+    /** Evaluation context(without root object, the variable value map is passed on evaluation). */
+    private static final EvaluationContext EVALUATION_CONTEXT = SimpleEvaluationContext
+            .forPropertyAccessors(PROPERTY_ACCESSORS)
+            .build();
+
+    /**
+     * Get expression of the text.
+     *
+     * @param text text
+     * @return expression, or {@link #UNPARSABLE} if the text cannot be parsed
+     */
+    private Expression getExpression(String text) {
+        Expression expr = expressions.get(text);
+        if (expr != null) { return expr; }
+        try {
+            expr = SPEL_PARSER.parseExpression(text);
+        } catch (Exception e) {
+            expr = UNPARSABLE;
+        }
+        if (expressions.size() < MAX_CACHED_EXPRESSIONS) { expressions.put(text, expr); }
+        return expr;
+    }
+
     /** Variable value map accessor. */
-    private static class VariableValueMapAccessor implements PropertyAccessor {
+    private static class VariableValueMapAccessor implements CompilablePropertyAccessor {
 
         /** Specific target classes. */
         private static final Class<?>[] SPECIFIC_TARGET_CLASSES = new Class[]{ VariableValueMap.class };
+        /** Descriptor of variable value map. */
+        private static final String DESCRIPTOR = "Lcom/github/wautsns/templatemessage/variable/VariableValueMap";
+        /** Internal name of variable value map. */
+        private static final String INTERNAL_NAME = DESCRIPTOR.substring(1);
 
         @Override
         public Class<?>[] getSpecificTargetClasses() {
@@ -106,6 +153,32 @@ public class SpelTemplateMessageFormattingProcessor extends TemplateMessageForma
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public boolean isCompilable() {
+            return true;
+        }
+
+        @Override
+        public Class<?> getPropertyType() {
+            return Object.class;
+        }
+
+        @Override
+        public void generateCode(String propertyName, MethodVisitor mv, CodeFlow cf) {
+            // ((VariableValueMap) target).getValue(target.getVariable(propertyName))
+            String descriptor = cf.lastDescriptor();
+            if (descriptor == null || !descriptor.equals(DESCRIPTOR)) {
+                if (descriptor == null) { cf.loadTarget(mv); }
+                CodeFlow.insertCheckCast(mv, DESCRIPTOR);
+            }
+            mv.visitInsn(Opcodes.DUP);
+            mv.visitLdcInsn(propertyName);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, INTERNAL_NAME,
+                    "getVariable", "(Ljava/lang/String;)Lcom/github/wautsns/templatemessage/variable/Variable;", false);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, INTERNAL_NAME,
+                    "getValue", "(Lcom/github/wautsns/templatemessage/variable/Variable;)Ljava/lang/Object;", false);
+        }
+
     }
 
 }
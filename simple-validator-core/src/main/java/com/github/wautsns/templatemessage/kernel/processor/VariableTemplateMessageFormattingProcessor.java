@@ -26,6 +26,10 @@ import java.util.Locale;
 /**
  * Template message formatting processor for {@linkplain Variable variable}.
  *
+ * <p>Formatted variable values are templates, since formatters may produce placeholders of other processors(eg.
+ * {@code [`NO_RESTRICTIONS`]} for {@code null} values, {@code [`Human$Gender.MALE`]} for enum properties) which
+ * should be resolved too.
+ *
  * @author wautsns
  * @since Mar 10, 2020
  */
@@ -51,4 +55,9 @@ public class VariableTemplateMessageFormattingProcessor extends TemplateMessageF
         return variable.getFormatter().format(value, locale);
     }
 
+    @Override
+    public boolean isResultTemplate() {
+        return true;
+    }
+
 }
@@ -57,4 +57,9 @@ public class MessageSourceTemplateMessageFormattingProcessor<T extends MessageSo
         return messageSource.getMessage(text, null, null, locale);
     }
 
+    @Override
+    public boolean isResultTemplate() {
+        return true;
+    }
+
 }
@@ -41,10 +41,23 @@ public class ReloadableResourceTemplateMessageFormattingProcessor
      * @param rightDelimiter right delimiter
      */
     public ReloadableResourceTemplateMessageFormattingProcessor(String leftDelimiter, String rightDelimiter) {
-        super(leftDelimiter, rightDelimiter, new ReloadableResourceBundleMessageSource());
+        super(leftDelimiter, rightDelimiter, new ReloadableMessageSource());
         getMessageSource().setDefaultEncoding("UTF-8");
     }
 
+    /**
+     * Return whether the resources are reloaded when they change.
+     *
+     * <p>Resources are reloaded if the cache seconds is not negative(the default is {@code -1}, caching forever), in
+     * which case results should not be cached by callers either.
+     *
+     * @return {@code true} if the resources are reloaded when they change, otherwise {@code false}
+     * @see #setCacheSeconds(int)
+     */
+    public boolean isReloading() {
+        return ((ReloadableMessageSource) getMessageSource()).getCacheMillis() >= 0;
+    }
+
     /**
      * Set cache seconds.
      *
@@ -85,4 +98,16 @@ public class ReloadableResourceTemplateMessageFormattingProcessor
         return this;
     }
 
+    // #################### internal utils ################################################
+
+    /** Reloadable resource bundle message source whose cache millis is visible. */
+    private static class ReloadableMessageSource extends ReloadableResourceBundleMessageSource {
+
+        @Override
+        public long getCacheMillis() {
+            return super.getCacheMillis();
+        }
+
+    }
+
 }
@@ -0,0 +1,441 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.templatemessage.kernel.processor.messagesource;
+
+import com.github.wautsns.templatemessage.kernel.TemplateMessageFormatter;
+import com.github.wautsns.templatemessage.variable.VariableValueMap;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Template message formatting processor for message resources in an immutable snapshot.
+ *
+ * <p>Unlike {@link ReloadableResourceTemplateMessageFormattingProcessor}, messages are looked up in an immutable
+ * per-locale table without any lock or file I/O. Tables are built eagerly for the locales whose properties files
+ * exist, and are rebuilt and swapped atomically on {@linkplain #reload() reload}, which can also be triggered by
+ * {@linkplain #startWatching() watching} the resource directories on the file system.
+ *
+ * <p>Message resources are resolved the same as {@code ReloadableResourceBundleMessageSource}(properties files in
+ * UTF-8, falling back to the system locale and then the base file). Any other locale is resolved to the table of the
+ * nearest locale(without variant, then without country), or the table of the fallback files, so the number of tables
+ * does not depend on the requested locales.
+ *
+ * @author wautsns
+ * @since Jul 28, 2020
+ */
+public class ResourceSnapshotTemplateMessageFormattingProcessor extends TemplateMessageFormatter.Processor {
+
+    /** Resource loader. */
+    private static final ResourceLoader RESOURCE_LOADER = new DefaultResourceLoader();
+    /** Suffix of properties files. */
+    private static final String PROPERTIES_SUFFIX = ".properties";
+    /** Resource pattern resolver, used to find properties files of locales. */
+    private static final ResourcePatternResolver RESOURCE_PATTERN_RESOLVER =
+            new PathMatchingResourcePatternResolver(RESOURCE_LOADER);
+
+    /** Current snapshot. */
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+    /** Listeners which will be called after reloading. */
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    /** Watch service, or {@code null} if not watching. */
+    private WatchService watchService;
+
+    /**
+     * Construct a resourceSnapshotTemplateMessageFormattingProcessor.
+     *
+     * @param leftDelimiter left delimiter
+     * @param rightDelimiter right delimiter
+     */
+    public ResourceSnapshotTemplateMessageFormattingProcessor(String leftDelimiter, String rightDelimiter) {
+        super(leftDelimiter, rightDelimiter);
+    }
+
+    @Override
+    public String process(String text, VariableValueMap variableValueMap, Locale locale) {
+        return snapshot.getTable(locale).get(text);
+    }
+
+    @Override
+    public boolean isResultTemplate() {
+        return true;
+    }
+
+    /**
+     * Get base names.
+     *
+     * @return base names(unmodifiable, in descending order of priority)
+     */
+    public List<String> getBaseNames() {
+        return snapshot.baseNames;
+    }
+
+    /**
+     * Add a listener which will be called after reloading, eg. to clear caches of formatted messages.
+     *
+     * @param listener listener
+     * @return self reference
+     */
+    public ResourceSnapshotTemplateMessageFormattingProcessor addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Load resources.
+     *
+     * <p>For the same message property key, the one loaded later will overwrite the one loaded first.
+     *
+     * @param baseNames base names, eg. {@code "i18n/messages"}
+     * @return self reference
+     * @see ReloadableResourceTemplateMessageFormattingProcessor#loadMessageResources(String...)
+     */
+    public synchronized ResourceSnapshotTemplateMessageFormattingProcessor loadMessageResources(String... baseNames) {
+        if (baseNames == null || baseNames.length == 0) { return this; }
+        Set<String> newBaseNameSet = new LinkedHashSet<>(Arrays.asList(baseNames));
+        newBaseNameSet.addAll(snapshot.baseNames);
+        reload(new ArrayList<>(newBaseNameSet));
+        if (watchService != null) { registerDirectories(watchService); }
+        return this;
+    }
+
+    /**
+     * Reload resources.
+     *
+     * <p>Tables of all locales whose properties files exist will be rebuilt eagerly, then the snapshot will be swapped
+     * atomically. Lookups during reloading see the previous snapshot.
+     *
+     * @return self reference
+     * @throws UncheckedIOException if failed to read resources(the previous snapshot will be kept)
+     */
+    public synchronized ResourceSnapshotTemplateMessageFormattingProcessor reload() {
+        reload(snapshot.baseNames);
+        return this;
+    }
+
+    /**
+     * Start watching the resource directories on the file system, resources will be reloaded on change.
+     *
+     * <p>Resources in jars cannot be watched.
+     *
+     * @return self reference
+     * @throws IOException if failed to watch
+     */
+    public synchronized ResourceSnapshotTemplateMessageFormattingProcessor startWatching() throws IOException {
+        if (watchService != null) { return this; }
+        WatchService ws = FileSystems.getDefault().newWatchService();
+        registerDirectories(ws);
+        Thread watcher = new Thread(() -> watch(ws), "message-resource-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        watchService = ws;
+        return this;
+    }
+
+    /**
+     * Stop watching the resource directories.
+     *
+     * @return self reference
+     * @throws IOException if failed to stop watching
+     */
+    public synchronized ResourceSnapshotTemplateMessageFormattingProcessor stopWatching() throws IOException {
+        if (watchService == null) { return this; }
+        watchService.close();
+        watchService = null;
+        return this;
+    }
+
+    // #################### internal utils ################################################
+
+    /**
+     * Reload resources with the specified base names.
+     *
+     * @param baseNames base names(in descending order of priority)
+     */
+    private void reload(List<String> baseNames) {
+        snapshot = new Snapshot(Collections.unmodifiableList(baseNames));
+        reloadListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Register the resource directories on the file system.
+     *
+     * @param ws watch service
+     */
+    private void registerDirectories(WatchService ws) {
+        for (String baseName : snapshot.baseNames) {
+            int index = baseName.lastIndexOf('/');
+            Resource directory = RESOURCE_LOADER.getResource((index == -1) ? "" : baseName.substring(0, index + 1));
+            if (!directory.isFile()) { continue; }
+            try {
+                directory.getFile().toPath().register(ws,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Watch the resource directories until the watch service is closed.
+     *
+     * @param ws watch service
+     */
+    private void watch(WatchService ws) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = ws.take();
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                return;
+            }
+            key.pollEvents();
+            try {
+                reload();
+            } catch (UncheckedIOException ignored) {
+                // the previous snapshot is kept, and will be reloaded on the next change
+            }
+            key.reset();
+        }
+    }
+
+    /** Immutable snapshot of message resources. */
+    private static final class Snapshot {
+
+        /** Base names(in descending order of priority). */
+        private final List<String> baseNames;
+        /** Tables of locales whose properties files exist: locale -&gt; (key -&gt; message). */
+        private final Map<Locale, Map<String, String>> tables = new HashMap<>();
+        /** Table of locales without properties files(i.e. the system locale and the base file). */
+        private final Map<String, String> fallbackTable;
+
+        /**
+         * Construct a snapshot, all tables will be built eagerly.
+         *
+         * @param baseNames base names(in descending order of priority)
+         * @throws UncheckedIOException if failed to read resources
+         */
+        private Snapshot(List<String> baseNames) {
+            this.baseNames = baseNames;
+            for (Locale locale : findLocales(baseNames)) { tables.put(locale, buildTable(locale)); }
+            this.fallbackTable = buildTable(Locale.ROOT);
+        }
+
+        /**
+         * Get table of the locale.
+         *
+         * <p>The table of the nearest locale(without variant, then without country) whose properties files exist is
+         * used, the same as building the table of the locale.
+         *
+         * @param locale locale
+         * @return table of the locale
+         */
+        private Map<String, String> getTable(Locale locale) {
+            Map<String, String> table = tables.get(locale);
+            if (table != null) { return table; }
+            String language = locale.getLanguage();
+            String country = locale.getCountry();
+            if (!locale.getVariant().isEmpty() || !locale.getScript().isEmpty() || locale.hasExtensions()) {
+                table = tables.get(new Locale(language, country));
+                if (table != null) { return table; }
+            }
+            if (!country.isEmpty()) {
+                table = tables.get(new Locale(language));
+                if (table != null) { return table; }
+            }
+            return fallbackTable;
+        }
+
+        /**
+         * Find locales whose properties files exist.
+         *
+         * @param baseNames base names
+         * @return locales whose properties files exist
+         * @throws UncheckedIOException if failed to find resources
+         */
+        private static Set<Locale> findLocales(List<String> baseNames) {
+            Set<Locale> locales = new LinkedHashSet<>();
+            for (String baseName : baseNames) {
+                String prefix = baseName.substring(baseName.lastIndexOf('/') + 1) + '_';
+                Resource[] resources;
+                try {
+                    resources = RESOURCE_PATTERN_RESOLVER.getResources(toPattern(baseName));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                for (Resource resource : resources) {
+                    String filename = resource.getFilename();
+                    if (filename == null || !filename.startsWith(prefix)) { continue; }
+                    String suffix = filename.substring(prefix.length(), filename.length() - PROPERTIES_SUFFIX.length());
+                    Locale locale = parseLocale(suffix);
+                    if (locale != null) { locales.add(locale); }
+                }
+            }
+            return locales;
+        }
+
+        /**
+         * Convert the base name to the location pattern of its properties files of locales.
+         *
+         * @param baseName base name
+         * @return location pattern, eg. {@code classpath*:i18n/messages_*.properties}
+         */
+        private static String toPattern(String baseName) {
+            String pattern = baseName + "_*" + PROPERTIES_SUFFIX;
+            if (pattern.startsWith(ResourceLoader.CLASSPATH_URL_PREFIX)) {
+                pattern = pattern.substring(ResourceLoader.CLASSPATH_URL_PREFIX.length());
+            } else if (pattern.indexOf(':') >= 0) {
+                // eg. file:, which is supported by the pattern resolver directly
+                return pattern;
+            }
+            return ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + pattern;
+        }
+
+        /**
+         * Parse the locale suffix of properties file, eg. {@code zh_CN}.
+         *
+         * @param suffix suffix(without the base name and extension)
+         * @return locale, or {@code null} if the suffix is not a locale(eg. file of another base name)
+         */
+        private static Locale parseLocale(String suffix) {
+            String[] parts = suffix.split("_", 3);
+            String language = parts[0];
+            String country = (parts.length > 1) ? parts[1] : "";
+            String variant = (parts.length > 2) ? parts[2] : "";
+            if (!language.matches("[a-zA-Z]{2,8}|") || !country.matches("[a-zA-Z]{2}|[0-9]{3}|")) { return null; }
+            if (language.isEmpty() && country.isEmpty()) { return null; }
+            return new Locale(language, country, variant);
+        }
+
+        /**
+         * Build table of the locale.
+         *
+         * <p>Messages in base names of higher priority win, then messages in more specific files.
+         *
+         * @param locale locale
+         * @return table of the locale
+         */
+        private Map<String, String> buildTable(Locale locale) {
+            Map<String, String> table = new HashMap<>();
+            for (int i = baseNames.size() - 1; i >= 0; i--) {
+                List<String> fileNames = calculateFileNames(baseNames.get(i), locale);
+                for (int j = fileNames.size() - 1; j >= 0; j--) {
+                    Properties properties = loadProperties(fileNames.get(j));
+                    if (properties == null) { continue; }
+                    properties.forEach((key, message) -> table.put((String) key, (String) message));
+                }
+            }
+            return Collections.unmodifiableMap(table);
+        }
+
+        /**
+         * Calculate file names of the base name for the locale.
+         *
+         * @param baseName base name
+         * @param locale locale
+         * @return file names(from the most specific to the base file)
+         */
+        private static List<String> calculateFileNames(String baseName, Locale locale) {
+            List<String> fileNames = new ArrayList<>(7);
+            fileNames.addAll(calculateFileNamesForLocale(baseName, locale));
+            Locale defaultLocale = Locale.getDefault();
+            if (!locale.equals(defaultLocale)) {
+                for (String fileName : calculateFileNamesForLocale(baseName, defaultLocale)) {
+                    if (!fileNames.contains(fileName)) { fileNames.add(fileName); }
+                }
+            }
+            fileNames.add(baseName);
+            return fileNames;
+        }
+
+        /**
+         * Calculate file names of the base name for the locale(without the base file).
+         *
+         * @param baseName base name
+         * @param locale locale
+         * @return file names(from the most specific to the least specific)
+         */
+        private static List<String> calculateFileNamesForLocale(String baseName, Locale locale) {
+            List<String> fileNames = new ArrayList<>(3);
+            String language = locale.getLanguage();
+            String country = locale.getCountry();
+            String variant = locale.getVariant();
+            StringBuilder temp = new StringBuilder(baseName).append('_');
+            if (!language.isEmpty()) {
+                temp.append(language);
+                fileNames.add(0, temp.toString());
+            }
+            temp.append('_');
+            if (!country.isEmpty()) {
+                temp.append(country);
+                fileNames.add(0, temp.toString());
+            }
+            if (!variant.isEmpty() && (!language.isEmpty() || !country.isEmpty())) {
+                temp.append('_').append(variant);
+                fileNames.add(0, temp.toString());
+            }
+            return fileNames;
+        }
+
+        /**
+         * Load properties file(UTF-8).
+         *
+         * @param fileName file name(without extension)
+         * @return properties, or {@code null} if the file does not exist
+         * @throws UncheckedIOException if failed to read the file
+         */
+        private static Properties loadProperties(String fileName) {
+            Resource resource = RESOURCE_LOADER.getResource(fileName + PROPERTIES_SUFFIX);
+            if (!resource.exists()) { return null; }
+            try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                Properties properties = new Properties();
+                properties.load(reader);
+                return properties;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
@@ -15,29 +15,57 @@
  */
 package com.github.wautsns.templatemessage.variable;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * Variable value map.
  *
+ * <p>Variables and values are stored in arrays in insertion order, since a map usually contains only a few
+ * variables. If the map contains more than {@value #INDEX_THRESHOLD} variables, a name index will be built lazily.
+ *
+ * <p>Copying variables into an empty map shares the arrays, which will be copied before the first modification of
+ * either map(copy-on-write).
+ *
  * @author wautsns
  * @since Mar 10, 2020
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
 public class VariableValueMap {
 
-    /** Empty variableValueMap. */
-    public static final VariableValueMap EMPTY = new VariableValueMap(Collections.emptyMap());
+    /** Empty variableValueMap(unmodifiable). */
+    public static final VariableValueMap EMPTY = new VariableValueMap(true);
+
+    /** Min size of the map which will be indexed by name. */
+    private static final int INDEX_THRESHOLD = 8;
+    /** Min capacity of the arrays. */
+    private static final int MIN_CAPACITY = 4;
+    /** Empty variables. */
+    private static final Variable[] NO_VARIABLES = new Variable[0];
+    /** Empty values. */
+    private static final Object[] NO_VALUES = new Object[0];
 
-    /** Map: variable -> value. */
-    private final Map<Variable, Object> dataMap;
+    /** Whether the map is unmodifiable. */
+    private final boolean unmodifiable;
+    /** Variables, only the first {@link #size} are valid. */
+    private Variable[] variables;
+    /** Values, in the same order as the variables. */
+    private Object[] values;
+    /** Size. */
+    private int size;
+    /** Whether the arrays may be shared by another map. */
+    private volatile boolean shared;
+    /** Name index: name -&gt; index of the first variable with the name, built lazily. */
+    private volatile Map<String, Integer> nameIndex;
 
     /** Construct a variableValueMap. */
     public VariableValueMap() {
-        this(8);
+        this(false);
     }
 
     /**
@@ -46,7 +74,9 @@ public class VariableValueMap {
      * @param initialCapacity initial capacity
      */
     public VariableValueMap(int initialCapacity) {
-        dataMap = new HashMap<>(initialCapacity);
+        this.unmodifiable = false;
+        this.variables = (initialCapacity == 0) ? NO_VARIABLES : new Variable[initialCapacity];
+        this.values = (initialCapacity == 0) ? NO_VALUES : new Object[initialCapacity];
     }
 
     /**
@@ -55,7 +85,8 @@ public class VariableValueMap {
      * @param initialVariableValueMap initial variable value map data
      */
     public VariableValueMap(VariableValueMap initialVariableValueMap) {
-        this.dataMap = new HashMap<>(initialVariableValueMap.dataMap);
+        this(false);
+        put(initialVariableValueMap);
     }
 
     /**
@@ -64,7 +95,19 @@ public class VariableValueMap {
      * @param initialDataMap initial data map
      */
     public VariableValueMap(Map<Variable, Object> initialDataMap) {
-        this.dataMap = initialDataMap;
+        this(initialDataMap.size());
+        initialDataMap.forEach(this::put);
+    }
+
+    /**
+     * Construct an empty variableValueMap.
+     *
+     * @param unmodifiable whether the map is unmodifiable
+     */
+    private VariableValueMap(boolean unmodifiable) {
+        this.unmodifiable = unmodifiable;
+        this.variables = NO_VARIABLES;
+        this.values = NO_VALUES;
     }
 
     /**
@@ -73,7 +116,7 @@ public class VariableValueMap {
      * @return {@code true} if the variableValueMap is empty, otherwise {@code false}
      */
     public boolean isEmpty() {
-        return dataMap.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -83,7 +126,7 @@ public class VariableValueMap {
      * @return {@code true} if the variableValueMap contains the variable, otherwise {@code false}
      */
     public boolean contains(Variable<?> variable) {
-        return dataMap.containsKey(variable);
+        return indexOf(variable) >= 0;
     }
 
     /**
@@ -92,7 +135,7 @@ public class VariableValueMap {
      * @return size of the variableValueMap
      */
     public int size() {
-        return dataMap.size();
+        return size;
     }
 
     /**
@@ -104,11 +147,8 @@ public class VariableValueMap {
      * specified name
      */
     public <T> Variable<T> getVariable(String name) {
-        return dataMap.entrySet().stream()
-                .filter(e -> e.getKey().getName().equals(name))
-                .findFirst()
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        int index = indexOf(name);
+        return (index < 0) ? null : variables[index];
     }
 
     /**
@@ -133,16 +173,28 @@ public class VariableValueMap {
      * value if the variable does not exist in the variable value
      */
     public <T> T getValue(Variable<T> variable, T defaultValue) {
-        return (T) dataMap.getOrDefault(variable, defaultValue);
+        int index = indexOf(variable);
+        return (index < 0) ? defaultValue : (T) values[index];
     }
 
     /**
      * Get dataMap.
      *
-     * @return dataMap
+     * @return dataMap(unmodifiable snapshot, in insertion order)
      */
     public Map<Variable, Object> getDataMap() {
-        return dataMap;
+        Map<Variable, Object> dataMap = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) { dataMap.put(variables[i], values[i]); }
+        return Collections.unmodifiableMap(dataMap);
+    }
+
+    /**
+     * Perform the action for each variable and its value, in insertion order.
+     *
+     * @param action action
+     */
+    public void forEach(BiConsumer<Variable, Object> action) {
+        for (int i = 0; i < size; i++) { action.accept(variables[i], values[i]); }
     }
 
     /**
@@ -154,7 +206,17 @@ public class VariableValueMap {
      * @return self reference
      */
     public <T> VariableValueMap put(Variable<T> variable, T value) {
-        dataMap.put(variable, value);
+        int index = indexOf(variable);
+        if (index >= 0) {
+            prepareForWriting(size);
+            values[index] = value;
+        } else {
+            prepareForWriting(size + 1);
+            variables[size] = variable;
+            values[size] = value;
+            size++;
+            nameIndex = null;
+        }
         return this;
     }
 
@@ -165,10 +227,42 @@ public class VariableValueMap {
      * @return self reference
      */
     public VariableValueMap put(VariableValueMap variableValueMap) {
-        dataMap.putAll(variableValueMap.dataMap);
+        if (variableValueMap.size == 0) { return this; }
+        if (size == 0 && !unmodifiable) {
+            if (!variableValueMap.shared) { variableValueMap.shared = true; }
+            this.variables = variableValueMap.variables;
+            this.values = variableValueMap.values;
+            this.size = variableValueMap.size;
+            this.shared = true;
+            this.nameIndex = variableValueMap.nameIndex;
+            return this;
+        }
+        for (int i = 0; i < variableValueMap.size; i++) {
+            put(variableValueMap.variables[i], variableValueMap.values[i]);
+        }
         return this;
     }
 
+    /**
+     * Copy the variableValueMap without the specified variable.
+     *
+     * <p>This variableValueMap will not be modified(not even shared), so it can be copied concurrently.
+     *
+     * @param variable variable
+     * @return a new variableValueMap without the variable
+     */
+    public VariableValueMap copyWithout(Variable<?> variable) {
+        int index = indexOf(variable);
+        VariableValueMap copy = new VariableValueMap(size);
+        for (int i = 0; i < size; i++) {
+            if (i == index) { continue; }
+            copy.variables[copy.size] = variables[i];
+            copy.values[copy.size] = values[i];
+            copy.size++;
+        }
+        return copy;
+    }
+
     /**
      * Remove value of the specified variable.
      *
@@ -176,29 +270,37 @@ public class VariableValueMap {
      * @return self reference
      */
     public VariableValueMap remove(Variable<?> variable) {
-        dataMap.remove(variable);
+        int index = indexOf(variable);
+        if (index < 0) { return this; }
+        prepareForWriting(size);
+        int numMoved = size - index - 1;
+        System.arraycopy(variables, index + 1, variables, index, numMoved);
+        System.arraycopy(values, index + 1, values, index, numMoved);
+        size--;
+        variables[size] = null;
+        values[size] = null;
+        nameIndex = null;
         return this;
     }
 
     @Override
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public String toString() {
         StringBuilder result = new StringBuilder();
         result.append('{');
-        result.append(dataMap.entrySet().stream()
-                .map(entry -> {
-                    Variable variable = entry.getKey();
-                    Object value = entry.getValue();
-                    return variable.getName() + "=" + variable.getFormatter().format(value);
-                })
-                .collect(Collectors.joining(", ")));
+        for (int i = 0; i < size; i++) {
+            if (i > 0) { result.append(", "); }
+            Variable variable = variables[i];
+            result.append(variable.getName()).append('=').append(variable.getFormatter().format(values[i]));
+        }
         result.append('}');
         return result.toString();
     }
 
     @Override
     public int hashCode() {
-        return dataMap.hashCode();
+        int hash = 0;
+        for (int i = 0; i < size; i++) { hash += Objects.hashCode(variables[i]) ^ Objects.hashCode(values[i]); }
+        return hash;
     }
 
     @Override
@@ -206,7 +308,75 @@ public class VariableValueMap {
         if (this == o) { return true; }
         if (o == null || getClass() != o.getClass()) { return false; }
         VariableValueMap that = (VariableValueMap) o;
-        return this.dataMap.equals(that.dataMap);
+        if (this.size != that.size) { return false; }
+        for (int i = 0; i < size; i++) {
+            int index = that.indexOf(variables[i]);
+            if (index < 0 || !Objects.equals(values[i], that.values[index])) { return false; }
+        }
+        return true;
+    }
+
+    // #################### internal utils ################################################
+
+    /**
+     * Get index of the specified variable.
+     *
+     * @param variable variable
+     * @return index of the variable, or {@code -1} if the map does not contain the variable
+     */
+    private int indexOf(Variable<?> variable) {
+        if (variable == null) { return -1; }
+        if (size > INDEX_THRESHOLD) {
+            int index = indexOf(variable.getName());
+            if (index >= 0 && variable.equals(variables[index])) { return index; }
+        }
+        for (int i = 0; i < size; i++) {
+            if (variables[i] == variable) { return i; }
+        }
+        for (int i = 0; i < size; i++) {
+            if (variable.equals(variables[i])) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * Get index of the first variable with the specified name.
+     *
+     * @param name name
+     * @return index of the first variable with the name, or {@code -1} if the map does not contain such variable
+     */
+    private int indexOf(String name) {
+        if (size > INDEX_THRESHOLD) {
+            Map<String, Integer> index = nameIndex;
+            if (index == null) {
+                index = new HashMap<>(size * 2);
+                for (int i = size - 1; i >= 0; i--) { index.put(variables[i].getName(), i); }
+                nameIndex = index;
+            }
+            return index.getOrDefault(name, -1);
+        }
+        for (int i = 0; i < size; i++) {
+            if (variables[i].getName().equals(name)) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * Prepare the arrays for writing.
+     *
+     * <p>The arrays will be copied if they are shared or the capacity is not enough.
+     *
+     * @param minCapacity min capacity
+     * @throws UnsupportedOperationException if the map is unmodifiable
+     */
+    private void prepareForWriting(int minCapacity) {
+        if (unmodifiable) { throw new UnsupportedOperationException(); }
+        if (!shared && variables.length >= minCapacity) { return; }
+        int capacity = Math.max(minCapacity, MIN_CAPACITY);
+        if (variables.length < minCapacity) { capacity = Math.max(capacity, variables.length << 1); }
+        variables = Arrays.copyOf(variables, capacity);
+        values = Arrays.copyOf(values, capacity);
+        shared = false;
     }
 
 }
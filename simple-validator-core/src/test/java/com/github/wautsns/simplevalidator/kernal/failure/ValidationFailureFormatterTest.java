@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.simplevalidator.kernal.failure;
+
+import com.github.wautsns.templatemessage.variable.Variable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Tests of {@link ValidationFailureFormatter}.
+ *
+ * <p>The tests are plain methods run by surefire, failed assertions are thrown as {@link AssertionError}.
+ *
+ * @author wautsns
+ * @since Jul 29, 2020
+ */
+public class ValidationFailureFormatterTest {
+
+    /** Resource placeholders produced by variable formatters should be resolved. */
+    public void testResourcePlaceholderProducedByVariableFormatter() {
+        ValidationFailure failure = new ValidationFailure(1)
+                .setMessageTemplate("x {{values}} y")
+                .put(new Variable<Object[]>("values", Formatters.VALUES_NO_RESTRICTIONS), null);
+        String message = new ValidationFailureFormatter().format(failure, Locale.ENGLISH);
+        if (!"x no restrictions y".equals(message)) {
+            throw new AssertionError("Expected \"x no restrictions y\", but was \"" + message + "\".");
+        }
+    }
+
+    /** Changed resources should be visible in messages while the reloadable resource processor is reloading. */
+    public void testReloadedResourcesBypassMessageCache() throws IOException {
+        Path dir = Files.createTempDirectory("simple-validator-test");
+        Path resource = dir.resolve("messages.properties");
+        Files.write(resource, "greeting=hello\n".getBytes(StandardCharsets.UTF_8));
+        ValidationFailureFormatter formatter = new ValidationFailureFormatter();
+        formatter.loadMessageResources("file:" + dir.resolve("messages"));
+        formatter.getReloadableResourceTemplateMessageFormattingProcessor().setCacheSeconds(0);
+        ValidationFailure failure = new ValidationFailure(1).setMessageTemplate("[`greeting`]");
+        String before = formatter.format(failure, Locale.ENGLISH);
+        Files.write(resource, "greeting=hi\n".getBytes(StandardCharsets.UTF_8));
+        // file modification time may be in seconds
+        resource.toFile().setLastModified(System.currentTimeMillis() + 2000);
+        String after = formatter.format(failure, Locale.ENGLISH);
+        if (!"hello".equals(before) || !"hi".equals(after)) {
+            throw new AssertionError("Expected \"hello\" then \"hi\", but were \"" + before + "\", \"" + after + "\".");
+        }
+    }
+
+}
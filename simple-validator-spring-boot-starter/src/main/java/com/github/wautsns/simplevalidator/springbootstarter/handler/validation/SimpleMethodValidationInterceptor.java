@@ -53,10 +53,23 @@ public class SimpleMethodValidationInterceptor implements MethodInterceptor {
             if (criterion == null) { continue; }
             ValidationFailure failure = CriterionUtils.execute(criterion, arguments[i]);
             if (failure != null) { throw new ValidationException(failure); }
+            // Elements of lazy sources(eg. Stream, Iterator) are validated when consumed
+            arguments[i] = CriterionUtils.decorateLazily(
+                    criterion, arguments[i], SimpleMethodValidationInterceptor::fail);
         }
         return invocation.proceed();
     }
 
+    /**
+     * Throw the failure of an element of lazy source.
+     *
+     * @param failure failure
+     * @throws ValidationException always
+     */
+    private static void fail(ValidationFailure failure) throws ValidationException {
+        throw new ValidationException(failure);
+    }
+
     /**
      * Initialize parameters criterion.
      *